@@ -1,6 +1,7 @@
 package butterknife;
 
 import android.graphics.Bitmap;
+import android.support.annotation.DimenRes;
 import android.support.annotation.DrawableRes;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -13,9 +14,29 @@ import static java.lang.annotation.RetentionPolicy.CLASS;
  * <pre><code>
  * {@literal @}BindBitmap(R.drawable.logo) Bitmap logo;
  * </code></pre>
+ * <p>
+ * Specifying a {@link #width()} or {@link #height()} decodes the bitmap at the largest power of
+ * two sample size which still covers those bounds. Setting {@link #async()} decodes the bitmap on
+ * a background thread and assigns the field on the main thread once it is ready, unless the
+ * binding was unbound first.
+ * <pre><code>
+ * {@literal @}BindBitmap(value = R.drawable.hero, width = R.dimen.hero_width, async = true)
+ * Bitmap hero;
+ * </code></pre>
+ * Bitmaps decoded with either option are shared from a process-wide cache keyed by resource ID,
+ * screen density and requested size. They must not be recycled or modified.
  */
 @Retention(CLASS) @Target(FIELD)
 public @interface BindBitmap {
   /** Drawable resource ID from which the {@link Bitmap} will be created. */
   @DrawableRes int value();
+
+  /** Dimension resource ID of the width the bitmap will be displayed at, or 0 for any width. */
+  @DimenRes int width() default 0;
+
+  /** Dimension resource ID of the height the bitmap will be displayed at, or 0 for any height. */
+  @DimenRes int height() default 0;
+
+  /** Decode the bitmap on a background thread instead of while binding. */
+  boolean async() default false;
 }
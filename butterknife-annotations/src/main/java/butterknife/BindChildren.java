@@ -0,0 +1,25 @@
+package butterknife;
+
+import android.support.annotation.IdRes;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Bind a field to the children of the view group with the specified ID. The group is found once
+ * and its direct children are added in order, skipping any which are not of the field's view
+ * type.
+ * <pre><code>
+ * {@literal @}BindChildren(R.id.filters)
+ * List&lt;Chip&gt; filterChips;
+ * </code></pre>
+ * Fields may be a {@code List} or an array. If the group is optional the field is left empty when
+ * the group is not found.
+ */
+@Retention(CLASS) @Target(FIELD)
+public @interface BindChildren {
+  /** View ID of the group whose children the field will be bound to. */
+  @IdRes int value();
+}
@@ -14,6 +14,8 @@ import static java.lang.annotation.RetentionPolicy.CLASS;
  * {@literal @}BindViews({ R.id.title, R.id.subtitle })
  * List&lt;TextView&gt; titles;
  * </code></pre>
+ * Fields may be a {@code List}, an array, or a {@code ViewsById} when views need to be found by
+ * their ID.
  */
 @Retention(CLASS) @Target(FIELD)
 public @interface BindViews {
@@ -21,6 +21,14 @@ import static java.lang.annotation.RetentionPolicy.CLASS;
  * Any number of parameters from
  * {@link OnClickListener#onClick(android.view.View) onClick} may be used on the
  * method.
+ * <p>
+ * Clicks which closely follow another click are ignored. By default a click on any view ignores
+ * further clicks on every view. Use {@link #debounce()} to narrow which clicks are ignored:
+ * <pre><code>
+ * {@literal @}OnClick(value = R.id.example, debounce = OnClick.Debounce.VIEW) void onClick() {
+ *   Toast.makeText(this, "Clicked!", Toast.LENGTH_SHORT).show();
+ * }
+ * </code></pre>
  *
  * @see OnClickListener
  */
@@ -38,4 +46,17 @@ import static java.lang.annotation.RetentionPolicy.CLASS;
 public @interface OnClick {
   /** View IDs to which the method will be bound. */
   @IdRes int[] value() default { View.NO_ID };
+
+  /** Which other clicks are ignored after a click on one of the views. */
+  Debounce debounce() default Debounce.GLOBAL;
+
+  /** Groups of views in which a click ignores clicks which closely follow it. */
+  enum Debounce {
+    /** A click ignores clicks on every view bound with this scope. */
+    GLOBAL,
+    /** A click ignores clicks on views bound with this scope by the same binding. */
+    BINDING,
+    /** A click only ignores clicks on the same view. */
+    VIEW
+  }
 }
@@ -0,0 +1,107 @@
+package butterknife.compiler;
+
+import com.google.common.collect.ImmutableMap;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+/**
+ * The bindings of a single compilation, written as a {@code BindingIndex} which also serves as
+ * the module's {@code BindingManifest}.
+ */
+final class BindingIndexSet {
+  private static final ClassName BINDING_INDEX = ClassName.get("butterknife", "BindingIndex");
+  private static final ClassName BINDING_MANIFEST =
+      ClassName.get("butterknife", "BindingManifest");
+  private static final TypeName BINDING_FACTORY = ParameterizedTypeName.get(
+      BindingSet.BINDING_FACTORY, WildcardTypeName.subtypeOf(Object.class));
+
+  private final ClassName indexClassName;
+  /** Binary names of target types to their generated binding class. */
+  private final Map<String, ClassName> bindings;
+
+  private BindingIndexSet(ClassName indexClassName, Map<String, ClassName> bindings) {
+    this.indexClassName = indexClassName;
+    this.bindings = ImmutableMap.copyOf(bindings);
+  }
+
+  JavaFile brewJava() {
+    return JavaFile.builder(indexClassName.packageName(), createType())
+        .addFileComment("Generated code from Butter Knife. Do not modify!")
+        .build();
+  }
+
+  private TypeSpec createType() {
+    // Targets are matched by name since they are not required to be visible from the index
+    // package. Each binding class is only loaded once its target is first looked up.
+    MethodSpec.Builder getBindingFactory = MethodSpec.methodBuilder("getBindingFactory")
+        .addAnnotation(Override.class)
+        .addModifiers(PUBLIC)
+        .returns(BINDING_FACTORY)
+        .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class),
+            WildcardTypeName.subtypeOf(Object.class)), "target")
+        .beginControlFlow("switch (target.getName())");
+    for (Map.Entry<String, ClassName> entry : bindings.entrySet()) {
+      getBindingFactory.addStatement("case $S: return $T.FACTORY", entry.getKey(),
+          entry.getValue());
+    }
+    getBindingFactory.addStatement("default: return null")
+        .endControlFlow();
+
+    CodeBlock.Builder targetNames = CodeBlock.builder()
+        .add("return new $T[] {\n", String.class)
+        .indent();
+    for (String targetName : bindings.keySet()) {
+      targetNames.add("$S,\n", targetName);
+    }
+    targetNames.unindent()
+        .add("};\n");
+
+    MethodSpec getTargetClassNames = MethodSpec.methodBuilder("getTargetClassNames")
+        .addAnnotation(Override.class)
+        .addModifiers(PUBLIC)
+        .returns(ArrayTypeName.of(String.class))
+        .addCode(targetNames.build())
+        .build();
+
+    return TypeSpec.classBuilder(indexClassName.simpleName())
+        .addModifiers(PUBLIC, FINAL)
+        .addSuperinterface(BINDING_INDEX)
+        .addSuperinterface(BINDING_MANIFEST)
+        .addMethod(getBindingFactory.build())
+        .addMethod(getTargetClassNames)
+        .build();
+  }
+
+  static Builder newBuilder(String indexName) {
+    return new Builder(ClassName.bestGuess(indexName));
+  }
+
+  static final class Builder {
+    private final ClassName indexClassName;
+    private final Map<String, ClassName> bindings = new LinkedHashMap<>();
+
+    private Builder(ClassName indexClassName) {
+      this.indexClassName = indexClassName;
+    }
+
+    void addBinding(String targetBinaryName, BindingSet binding) {
+      bindings.put(targetBinaryName, binding.getBindingClassName());
+    }
+
+    BindingIndexSet build() {
+      return new BindingIndexSet(indexClassName, bindings);
+    }
+  }
+}
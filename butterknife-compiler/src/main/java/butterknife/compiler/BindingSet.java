@@ -1,11 +1,13 @@
 package butterknife.compiler;
 
+import butterknife.OnClick.Debounce;
 import butterknife.internal.ListenerClass;
 import butterknife.internal.ListenerMethod;
 import com.google.common.collect.ImmutableList;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -16,8 +18,10 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,20 +33,38 @@ import static com.google.auto.common.MoreElements.getPackage;
 import static java.util.Collections.singletonList;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
 import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
 
 /** A set of all the bindings requested by a single type. */
 final class BindingSet {
   static final ClassName UTILS = ClassName.get("butterknife.internal", "Utils");
+  private static final ClassName VIEW_FINDER = ClassName.get("butterknife.internal", "ViewFinder");
+  private static final ClassName VIEW_FINDER_ID_SET = VIEW_FINDER.nestedClass("IdSet");
+  private static final ClassName DEBOUNCE_SCOPE =
+      ClassName.get("butterknife.internal", "DebouncingOnClickListener", "Scope");
   private static final ClassName VIEW = ClassName.get("android.view", "View");
   private static final ClassName CONTEXT = ClassName.get("android.content", "Context");
   private static final ClassName RESOURCES = ClassName.get("android.content.res", "Resources");
+  private static final ClassName ANY_THREAD =
+      ClassName.get("android.support.annotation", "AnyThread");
   private static final ClassName UI_THREAD =
       ClassName.get("android.support.annotation", "UiThread");
   private static final ClassName CALL_SUPER =
       ClassName.get("android.support.annotation", "CallSuper");
-  private static final ClassName UNBINDER = ClassName.get("butterknife", "Unbinder");
+  static final ClassName UNBINDER = ClassName.get("butterknife", "Unbinder");
+  private static final ClassName REBINDER = ClassName.get("butterknife", "Rebinder");
+  private static final ClassName RESOURCE_BINDING_FACTORY =
+      ClassName.get("butterknife", "ResourceBindingFactory");
+  private static final ClassName ASYNC_BINDING_FACTORY =
+      ClassName.get("butterknife", "AsyncBindingFactory");
+  private static final ClassName PREPARED_BINDING =
+      ASYNC_BINDING_FACTORY.nestedClass("PreparedBinding");
+  static final ClassName BINDING_FACTORY = ClassName.get("butterknife", "BindingFactory");
   static final ClassName BITMAP_FACTORY = ClassName.get("android.graphics", "BitmapFactory");
+  static final ClassName RESOURCE_CACHE =
+      ClassName.get("butterknife.internal", "ResourceCache");
   static final ClassName CONTEXT_COMPAT =
       ClassName.get("android.support.v4.content", "ContextCompat");
 
@@ -67,13 +89,31 @@ final class BindingSet {
     this.parentBinding = parentBinding;
   }
 
-  JavaFile brewJava(int sdk) {
-    return JavaFile.builder(bindingClassName.packageName(), createType(sdk))
+  /**
+   * @param singlePassLookup Find all views in one traversal of the hierarchy using a
+   * {@code ViewFinder} rather than with one traversal per ID.
+   * @param sharedListeners Set one listener instance on every view bound to the same listener
+   * type, which dispatches on the view's ID, rather than one instance per view.
+   * @param rebindable Implement {@code Rebinder}, creating listeners once so they can be moved to
+   * the views of a new source.
+   * @param cacheResources Read resource values through the process-wide {@code ResourceCache}.
+   * @param asyncBind Split binding into a phase which looks up views and loads resources on any
+   * thread and one which assigns fields and sets listeners on the main thread. Not supported with
+   * {@code rebindable}.
+   * @param trace Wrap finding views, setting listeners, and loading resources in separate trace
+   * sections. Listeners are set once all views have been found.
+   */
+  JavaFile brewJava(int sdk, boolean singlePassLookup, boolean sharedListeners,
+      boolean rebindable, boolean cacheResources, boolean asyncBind, boolean trace) {
+    TypeSpec type = createType(sdk, singlePassLookup, sharedListeners, rebindable,
+        cacheResources, asyncBind && !rebindable, trace);
+    return JavaFile.builder(bindingClassName.packageName(), type)
         .addFileComment("Generated code from Butter Knife. Do not modify!")
         .build();
   }
 
-  private TypeSpec createType(int sdk) {
+  private TypeSpec createType(int sdk, boolean singlePassLookup, boolean sharedListeners,
+      boolean rebindable, boolean cacheResources, boolean asyncBind, boolean trace) {
     TypeSpec.Builder result = TypeSpec.classBuilder(bindingClassName.simpleName())
         .addModifiers(PUBLIC);
     if (isFinal) {
@@ -83,46 +123,374 @@ final class BindingSet {
     if (parentBinding != null) {
       result.superclass(parentBinding.bindingClassName);
     } else {
-      result.addSuperinterface(UNBINDER);
+      result.addSuperinterface(rebindable ? REBINDER : UNBINDER);
+    }
+
+    result.addField(createBindingFactoryField(targetTypeName, asyncBind));
+
+    // A single traversal only pays off when it replaces more than one.
+    List<Id> lookupIds = getLookupIds();
+    boolean useViewFinder = singlePassLookup && lookupIds.size() > 1;
+    if (useViewFinder) {
+      result.addField(createViewIdsField(lookupIds));
+    }
+    for (FieldCollectionViewBinding binding : collectionBindings) {
+      if (binding.requiresIdsField()) {
+        result.addField(binding.createIdsField());
+      }
     }
 
     if (hasTargetField()) {
       result.addField(targetTypeName, "target", PRIVATE);
     }
+    for (FieldBitmapBinding binding : getAsyncBitmapBindings()) {
+      result.addField(FieldBitmapBinding.REQUEST, binding.requestFieldName(), PRIVATE);
+    }
 
-    if (!constructorNeedsView()) {
-      // Add a delegating constructor with a target type + view signature for reflective use.
-      result.addMethod(createBindingViewDelegateConstructor(targetTypeName));
+    Set<ListenerClass> dispatchedListeners = sharedListeners
+        ? getDispatchedListeners()
+        : Collections.<ListenerClass>emptySet();
+    for (ViewBindings bindings : viewBindings) {
+      addViewAndListenerFields(result, bindings, rebindable, dispatchedListeners);
+    }
+    if (rebindable) {
+      for (ListenerClass listener : dispatchedListeners) {
+        result.addField(bestGuess(listener.type()), dispatcherName(listener), PRIVATE);
+      }
+    }
+    if (asyncBind) {
+      addPendingFields(result);
     }
-    result.addMethod(createBindingConstructor(targetTypeName, sdk));
 
-    if (hasViewBindings() || parentBinding == null) {
-      result.addMethod(createBindingUnbindMethod(result, targetTypeName));
+    result.addMethod(createBindingConstructor(targetTypeName, sdk, useViewFinder,
+        dispatchedListeners, rebindable, cacheResources, trace));
+    if (asyncBind) {
+      result.addMethod(createPrepareConstructor(sdk, useViewFinder, cacheResources, trace));
+      result.addMethod(createPublishMethod(targetTypeName, dispatchedListeners, trace));
+    }
+
+    if (rebindable && (hasViewBindings() || parentBinding == null)) {
+      result.addMethod(createBindingRebindMethod(targetTypeName, dispatchedListeners));
+    }
+
+    if (hasViewBindings() || parentBinding == null || hasAsyncResourceBindings()) {
+      result.addMethod(
+          createBindingUnbindMethod(targetTypeName, rebindable, dispatchedListeners));
+    }
+
+    if (rebindable && hasViewBindings()) {
+      result.addMethod(
+          createBindViewsMethod(targetTypeName, useViewFinder, dispatchedListeners));
     }
 
     return result.build();
   }
 
-  private MethodSpec createBindingViewDelegateConstructor(TypeName targetType) {
-    return MethodSpec.constructorBuilder()
-        .addJavadoc("@deprecated Use {@link #$T($T, $T)} for direct creation.\n    "
-                + "Only present for runtime invocation through {@code ButterKnife.bind()}.\n",
-            bindingClassName, targetType, CONTEXT)
-        .addAnnotation(Deprecated.class)
-        .addAnnotation(UI_THREAD)
+  /** A factory which lets the runtime create this binding without reflection. */
+  private FieldSpec createBindingFactoryField(TypeName targetType, boolean asyncBind) {
+    TypeName factoryType = ParameterizedTypeName.get(BINDING_FACTORY, targetType);
+
+    TypeSpec.Builder factory = TypeSpec.anonymousClassBuilder("");
+    if (!constructorNeedsView()) {
+      // Resources only need a context, which lets them be bound from any thread.
+      factory.superclass(ParameterizedTypeName.get(RESOURCE_BINDING_FACTORY, targetType))
+          .addMethod(MethodSpec.methodBuilder("create")
+              .addAnnotation(Override.class)
+              .addModifiers(PUBLIC)
+              .returns(UNBINDER)
+              .addParameter(targetType, "target")
+              .addParameter(CONTEXT, "context")
+              .addStatement("return new $T(target, context)", bindingClassName)
+              .build());
+    } else {
+      factory.superclass(asyncBind
+          ? ParameterizedTypeName.get(ASYNC_BINDING_FACTORY, targetType)
+          : factoryType);
+      factory.addMethod(MethodSpec.methodBuilder("create")
+          .addAnnotation(Override.class)
+          .addModifiers(PUBLIC)
+          .returns(UNBINDER)
+          .addParameter(targetType, "target")
+          .addParameter(VIEW, "source")
+          .addStatement("return new $T(target, source)", bindingClassName)
+          .build());
+      if (asyncBind) {
+        factory.addMethod(createFactoryPrepareMethod(targetType));
+      }
+    }
+    return FieldSpec.builder(factoryType, "FACTORY", PUBLIC, STATIC, FINAL)
+        .initializer("$L", factory.build())
+        .build();
+  }
+
+  /** Prepares a binding on the calling thread and defers publishing it to the caller. */
+  private MethodSpec createFactoryPrepareMethod(TypeName targetType) {
+    TypeSpec prepared = TypeSpec.anonymousClassBuilder("")
+        .superclass(PREPARED_BINDING)
+        .addMethod(MethodSpec.methodBuilder("publish")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(UNBINDER)
+            .addStatement("binding.publish(target)")
+            .addStatement("return binding")
+            .build())
+        .build();
+    return MethodSpec.methodBuilder("prepare")
+        .addAnnotation(Override.class)
         .addModifiers(PUBLIC)
-        .addParameter(targetType, "target")
+        .returns(PREPARED_BINDING)
+        .addParameter(targetType, "target", FINAL)
         .addParameter(VIEW, "source")
-        .addStatement(("this(target, source.getContext())"))
+        .addStatement("final $T binding = new $T(source)", bindingClassName, bindingClassName)
+        .addStatement("return $L", prepared)
         .build();
   }
 
-  private MethodSpec createBindingConstructor(TypeName targetType, int sdk) {
+  /** Fields holding the value of each target field between preparing and publishing. */
+  private void addPendingFields(TypeSpec.Builder result) {
+    for (ViewBindings bindings : viewBindings) {
+      FieldViewBinding fieldBinding = bindings.getFieldBinding();
+      if (fieldBinding != null) {
+        result.addField(fieldBinding.getType(), pendingFieldName(fieldBinding.getName()),
+            PRIVATE);
+      }
+    }
+    for (FieldCollectionViewBinding binding : collectionBindings) {
+      result.addField(binding.getFieldType(), pendingFieldName(binding.name), PRIVATE);
+    }
+    for (ResourceBinding binding : resourceBindings) {
+      result.addField(binding.type(), pendingFieldName(binding.name()), PRIVATE);
+    }
+  }
+
+  /** Looks up views and loads resources without touching the target. Safe on any thread. */
+  private MethodSpec createPrepareConstructor(int sdk, boolean useViewFinder,
+      boolean cacheResources, boolean trace) {
     MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+        .addModifiers(isFinal ? PRIVATE : PROTECTED)
+        .addParameter(VIEW, "source");
+    if (hasUnqualifiedResourceBindings()) {
+      constructor.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+          .addMember("value", "$S", "ResourceType")
+          .build());
+    }
+
+    if (parentBinding != null) {
+      constructor.addStatement("super(source)");
+      if (hasViewBindings() || !resourceBindings.isEmpty()) {
+        constructor.addCode("\n");
+      }
+    }
+
+    if (hasViewBindings()) {
+      if (trace) {
+        beginTraceSection(constructor, "views");
+      }
+      addFindViewStatements(constructor, useViewFinder, true);
+      if (trace) {
+        endTraceSection(constructor);
+      }
+      if (!resourceBindings.isEmpty()) {
+        constructor.addCode("\n");
+      }
+    }
+
+    if (!resourceBindings.isEmpty()) {
+      if (trace) {
+        beginTraceSection(constructor, "resources");
+      }
+      constructor.addStatement("$T context = source.getContext()", CONTEXT);
+      if (hasResourceBindingsNeedingResource(sdk, cacheResources)) {
+        constructor.addStatement("$T res = context.getResources()", RESOURCES);
+      }
+      for (ResourceBinding binding : resourceBindings) {
+        constructor.addStatement("$N = $L", pendingFieldName(binding.name()),
+            binding.renderValue(sdk, cacheResources));
+      }
+      if (trace) {
+        endTraceSection(constructor);
+      }
+    }
+    return constructor.build();
+  }
+
+  /**
+   * Finds every view without setting listeners. Views which have listeners are stored in their
+   * fields so that listeners can be set afterwards.
+   *
+   * @param prepare Assign the pending fields rather than the target's fields.
+   */
+  private void addFindViewStatements(MethodSpec.Builder result, boolean useViewFinder,
+      boolean prepare) {
+    String lookup = "source";
+    if (useViewFinder) {
+      lookup = "finder";
+      result.addStatement("$T finder = new $T(source, VIEW_IDS)", VIEW_FINDER, VIEW_FINDER);
+    }
+    if (hasViewLocal()) {
+      result.addStatement("$T view", VIEW);
+    }
+    for (ViewBindings bindings : viewBindings) {
+      addFindViewBindings(result, bindings, lookup, prepare);
+    }
+    for (FieldCollectionViewBinding binding : collectionBindings) {
+      if (prepare) {
+        result.addStatement("$N = $L", pendingFieldName(binding.name),
+            binding.renderValue(lookup));
+      } else {
+        result.addStatement("$L", binding.render(lookup));
+      }
+    }
+  }
+
+  private void addFindViewBindings(MethodSpec.Builder result, ViewBindings bindings,
+      String lookup, boolean prepare) {
+    if (bindings.isSingleFieldBinding()) {
+      FieldViewBinding fieldBinding = bindings.getFieldBinding();
+      addFieldAssignment(result, fieldBinding.getName(),
+          createSingleFieldLookup(bindings, lookup), prepare);
+      return;
+    }
+
+    addViewLookup(result, bindings, lookup);
+
+    FieldViewBinding fieldBinding = bindings.getFieldBinding();
+    if (fieldBinding != null) {
+      addFieldAssignment(result, fieldBinding.getName(), createFieldCast(bindings, fieldBinding),
+          prepare);
+    }
+    if (!bindings.getMethodBindings().isEmpty()) {
+      // Listeners are set afterwards. A view which was not found is stored as null.
+      if (bindings.isBoundToRoot()) {
+        result.addStatement("viewSource = source");
+      } else {
+        result.addStatement("view$L = view", bindings.getId().value);
+      }
+    }
+  }
+
+  private static void addFieldAssignment(MethodSpec.Builder result, String fieldName,
+      CodeBlock value, boolean prepare) {
+    if (prepare) {
+      result.addStatement("$N = $L", pendingFieldName(fieldName), value);
+    } else {
+      result.addStatement("target.$L = $L", fieldName, value);
+    }
+  }
+
+  /** Assigns the prepared values to the target and sets listeners. Main thread only. */
+  private MethodSpec createPublishMethod(TypeName targetType,
+      Set<ListenerClass> dispatchedListeners, boolean trace) {
+    MethodSpec.Builder result = MethodSpec.methodBuilder("publish")
         .addAnnotation(UI_THREAD)
-        .addModifiers(PUBLIC);
+        .addModifiers(isFinal ? PRIVATE : PROTECTED);
+    if (hasMethodBindings()) {
+      result.addParameter(targetType, "target", FINAL);
+    } else {
+      result.addParameter(targetType, "target");
+    }
+
+    if (parentBinding != null) {
+      result.addStatement("super.publish(target)");
+      result.addCode("\n");
+    }
+    if (hasTargetField()) {
+      result.addStatement("this.target = target");
+      result.addCode("\n");
+    }
+
+    // Pending values are released so that this binding does not hold views after unbind.
+    for (ViewBindings bindings : viewBindings) {
+      FieldViewBinding fieldBinding = bindings.getFieldBinding();
+      if (fieldBinding != null) {
+        addPublishStatements(result, fieldBinding.getName(), fieldBinding.getType());
+      }
+    }
+    for (FieldCollectionViewBinding binding : collectionBindings) {
+      addPublishStatements(result, binding.name, binding.getFieldType());
+    }
+    for (ResourceBinding binding : resourceBindings) {
+      addPublishStatements(result, binding.name(), binding.type());
+    }
 
     if (hasMethodBindings()) {
+      addSetListenerStatements(result, dispatchedListeners, trace);
+    }
+    return result.build();
+  }
+
+  /** Sets listeners on the views stored by {@link #addFindViewStatements}. */
+  private void addSetListenerStatements(MethodSpec.Builder result,
+      Set<ListenerClass> dispatchedListeners, boolean trace) {
+    if (trace) {
+      beginTraceSection(result, "listeners");
+    }
+    if (hasBindingDebounce()) {
+      result.addStatement("$T clickScope = new $T()", DEBOUNCE_SCOPE, DEBOUNCE_SCOPE);
+    }
+    for (ListenerClass listener : dispatchedListeners) {
+      result.addStatement("$T $N = $L", bestGuess(listener.type()),
+          dispatcherName(listener), createDispatcher(listener));
+    }
+    for (ViewBindings bindings : viewBindings) {
+      addMethodBindings(result, bindings, dispatchedListeners, false, true);
+    }
+    if (trace) {
+      endTraceSection(result);
+    }
+  }
+
+  /** Begins a trace section named for {@code phase} of this binding, ended in a finally block. */
+  private void beginTraceSection(MethodSpec.Builder result, String phase) {
+    String targetName = bindingClassName.simpleName();
+    targetName = targetName.substring(0, targetName.length() - "_ViewBinding".length());
+    result.addStatement("$T.beginSection($S)", UTILS, "BK:" + phase + ":" + targetName);
+    result.beginControlFlow("try");
+  }
+
+  private static void endTraceSection(MethodSpec.Builder result) {
+    result.nextControlFlow("finally");
+    result.addStatement("$T.endSection()", UTILS);
+    result.endControlFlow();
+  }
+
+  private static void addPublishStatements(MethodSpec.Builder result, String fieldName,
+      TypeName type) {
+    String pendingName = pendingFieldName(fieldName);
+    result.addStatement("target.$L = $N", fieldName, pendingName);
+    if (!type.isPrimitive()) {
+      result.addStatement("$N = null", pendingName);
+    }
+  }
+
+  /** Field in which the value for {@code fieldName} is held between preparing and publishing. */
+  private static String pendingFieldName(String fieldName) {
+    return "pending" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+  }
+
+  /** IDs are resolved at runtime since those of library modules are not final until then. */
+  private FieldSpec createViewIdsField(List<Id> ids) {
+    CodeBlock.Builder initializer = CodeBlock.builder()
+        .add("$T.idSet(", VIEW_FINDER);
+    for (int i = 0; i < ids.size(); i++) {
+      if (i > 0) {
+        initializer.add(", ");
+      }
+      initializer.add("$L", ids.get(i).code);
+    }
+    return FieldSpec.builder(VIEW_FINDER_ID_SET, "VIEW_IDS", PRIVATE, STATIC, FINAL)
+        .initializer(initializer.add(")").build())
+        .build();
+  }
+
+  private MethodSpec createBindingConstructor(TypeName targetType, int sdk,
+      boolean useViewFinder, Set<ListenerClass> dispatchedListeners, boolean rebindable,
+      boolean cacheResources, boolean trace) {
+    MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+        .addAnnotation(constructorNeedsView() ? UI_THREAD : ANY_THREAD)
+        .addModifiers(PUBLIC);
+
+    if (hasMethodBindings() || hasAsyncResourceBindings()) {
       constructor.addParameter(targetType, "target", FINAL);
     } else {
       constructor.addParameter(targetType, "target");
@@ -156,16 +524,50 @@ final class BindingSet {
       constructor.addCode("\n");
     }
 
-    if (hasViewBindings()) {
-      if (hasViewLocal()) {
-        // Local variable in which all views will be temporarily stored.
-        constructor.addStatement("$T view", VIEW);
+    if (hasViewBindings() && trace && !rebindable) {
+      beginTraceSection(constructor, "views");
+      addFindViewStatements(constructor, useViewFinder, false);
+      endTraceSection(constructor);
+      if (hasMethodBindings()) {
+        constructor.addCode("\n");
+        addSetListenerStatements(constructor, dispatchedListeners, true);
       }
-      for (ViewBindings bindings : viewBindings) {
-        addViewBindings(constructor, bindings);
+
+      if (!resourceBindings.isEmpty()) {
+        constructor.addCode("\n");
       }
-      for (FieldCollectionViewBinding binding : collectionBindings) {
-        constructor.addStatement("$L", binding.render());
+    } else if (hasViewBindings()) {
+      if (trace) {
+        // Listeners are created up front and set while finding views for rebind.
+        beginTraceSection(constructor, "views");
+      }
+      if (hasBindingDebounce()) {
+        // Shared by the click listeners of this binding which debounce together.
+        constructor.addStatement("$T clickScope = new $T()", DEBOUNCE_SCOPE, DEBOUNCE_SCOPE);
+      }
+      if (rebindable) {
+        // Listeners outlive the views they are set on so that they can be moved by rebind.
+        for (ListenerClass listener : dispatchedListeners) {
+          constructor.addStatement("$N = $L", dispatcherName(listener),
+              createDispatcher(listener));
+        }
+        for (ViewBindings bindings : viewBindings) {
+          for (Map.Entry<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> e
+              : bindings.getMethodBindings().entrySet()) {
+            String listenerField = listenerFieldName(bindings, e.getKey(), true,
+                dispatchedListeners);
+            if (listenerField != null) {
+              constructor.addStatement("$N = $L", listenerField,
+                  createListener(e.getKey(), e.getValue()));
+            }
+          }
+        }
+        constructor.addStatement("bindViews(target, source)");
+      } else {
+        addViewBindingStatements(constructor, useViewFinder, dispatchedListeners, false);
+      }
+      if (trace) {
+        endTraceSection(constructor);
       }
 
       if (!resourceBindings.isEmpty()) {
@@ -174,22 +576,98 @@ final class BindingSet {
     }
 
     if (!resourceBindings.isEmpty()) {
+      if (trace) {
+        beginTraceSection(constructor, "resources");
+      }
       if (constructorNeedsView()) {
         constructor.addStatement("$T context = source.getContext()", CONTEXT);
       }
-      if (hasResourceBindingsNeedingResource(sdk)) {
+      if (hasResourceBindingsNeedingResource(sdk, cacheResources)) {
         constructor.addStatement("$T res = context.getResources()", RESOURCES);
       }
       for (ResourceBinding binding : resourceBindings) {
-        constructor.addStatement("$L", binding.render(sdk));
+        constructor.addStatement("$L", binding.render(sdk, cacheResources));
+      }
+      if (trace) {
+        endTraceSection(constructor);
       }
     }
 
     return constructor.build();
   }
 
-  private MethodSpec createBindingUnbindMethod(TypeSpec.Builder bindingClass,
-      TypeName targetType) {
+  private void addViewBindingStatements(MethodSpec.Builder method, boolean useViewFinder,
+      Set<ListenerClass> dispatchedListeners, boolean rebindable) {
+    String lookup = "source";
+    if (useViewFinder) {
+      lookup = "finder";
+      method.addStatement("$T finder = new $T(source, VIEW_IDS)", VIEW_FINDER, VIEW_FINDER);
+    }
+    if (hasViewLocal()) {
+      // Local variable in which all views will be temporarily stored.
+      method.addStatement("$T view", VIEW);
+    }
+    if (!rebindable) {
+      for (ListenerClass listener : dispatchedListeners) {
+        method.addStatement("$T $N = $L", bestGuess(listener.type()),
+            dispatcherName(listener), createDispatcher(listener));
+      }
+    }
+    for (ViewBindings bindings : viewBindings) {
+      addViewBindings(method, bindings, lookup, dispatchedListeners, rebindable);
+    }
+    for (FieldCollectionViewBinding binding : collectionBindings) {
+      method.addStatement("$L", binding.render(lookup));
+    }
+  }
+
+  /** Finds views and sets listeners, for both the constructor and {@code rebind}. */
+  private MethodSpec createBindViewsMethod(TypeName targetType, boolean useViewFinder,
+      Set<ListenerClass> dispatchedListeners) {
+    MethodSpec.Builder result = MethodSpec.methodBuilder("bindViews")
+        .addModifiers(PRIVATE)
+        .addParameter(targetType, "target")
+        .addParameter(VIEW, "source");
+    addViewBindingStatements(result, useViewFinder, dispatchedListeners, true);
+    return result.build();
+  }
+
+  private MethodSpec createBindingRebindMethod(TypeName targetType,
+      Set<ListenerClass> dispatchedListeners) {
+    MethodSpec.Builder result = MethodSpec.methodBuilder("rebind")
+        .addAnnotation(Override.class)
+        .addAnnotation(UI_THREAD)
+        .addModifiers(PUBLIC)
+        .addParameter(VIEW, "source");
+    if (!isFinal && parentBinding == null) {
+      result.addAnnotation(CALL_SUPER);
+    }
+
+    if (hasTargetField()) {
+      result.addStatement("$T target = this.target", targetType);
+      result.addStatement("if (target == null) throw new $T($S)", IllegalStateException.class,
+          "Bindings already cleared.");
+    }
+    if (hasMethodBindings()) {
+      result.addCode("\n");
+      for (ViewBindings bindings : viewBindings) {
+        addListenerRemoval(result, bindings, true, dispatchedListeners, false);
+      }
+    }
+    if (hasViewBindings()) {
+      result.addCode("\n");
+      result.addStatement("bindViews(target, source)");
+    }
+
+    if (parentBinding != null) {
+      result.addCode("\n");
+      result.addStatement("super.rebind(source)");
+    }
+    return result.build();
+  }
+
+  private MethodSpec createBindingUnbindMethod(TypeName targetType, boolean rebindable,
+      Set<ListenerClass> dispatchedListeners) {
     MethodSpec.Builder result = MethodSpec.methodBuilder("unbind")
         .addAnnotation(Override.class)
         .addModifiers(PUBLIC);
@@ -218,7 +696,27 @@ final class BindingSet {
     if (hasMethodBindings()) {
       result.addCode("\n");
       for (ViewBindings bindings : viewBindings) {
-        addFieldAndUnbindStatement(bindingClass, result, bindings);
+        addListenerRemoval(result, bindings, rebindable, dispatchedListeners, true);
+      }
+      if (rebindable) {
+        for (ListenerClass listener : dispatchedListeners) {
+          result.addStatement("$N = null", dispatcherName(listener));
+        }
+      }
+    }
+
+    List<FieldBitmapBinding> asyncBitmapBindings = getAsyncBitmapBindings();
+    if (!asyncBitmapBindings.isEmpty()) {
+      if (hasTargetField()) {
+        result.addCode("\n");
+      }
+      // Decodes which complete after unbinding must neither assign nor keep the target.
+      for (FieldBitmapBinding binding : asyncBitmapBindings) {
+        String requestField = binding.requestFieldName();
+        result.beginControlFlow("if ($N != null)", requestField);
+        result.addStatement("$N.cancel()", requestField);
+        result.addStatement("$N = null", requestField);
+        result.endControlFlow();
       }
     }
 
@@ -229,8 +727,8 @@ final class BindingSet {
     return result.build();
   }
 
-  private void addFieldAndUnbindStatement(TypeSpec.Builder result, MethodSpec.Builder unbindMethod,
-      ViewBindings bindings) {
+  private void addViewAndListenerFields(TypeSpec.Builder result, ViewBindings bindings,
+      boolean rebindable, Set<ListenerClass> dispatchedListeners) {
     // Only add fields to the binding if there are method bindings.
     Map<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> classMethodBindings =
         bindings.getMethodBindings();
@@ -238,44 +736,82 @@ final class BindingSet {
       return;
     }
 
-    String fieldName = bindings.isBoundToRoot() ? "viewSource" : "view" + bindings.getId().value;
-    result.addField(VIEW, fieldName, PRIVATE);
+    result.addField(VIEW, viewFieldName(bindings), PRIVATE);
+    for (ListenerClass listenerClass : classMethodBindings.keySet()) {
+      String listenerField =
+          listenerFieldName(bindings, listenerClass, rebindable, dispatchedListeners);
+      if (listenerField != null) {
+        result.addField(bestGuess(listenerClass.type()), listenerField, PRIVATE);
+      }
+    }
+  }
+
+  /**
+   * Removes the listeners of {@code bindings} from the view they were set on and clears the field
+   * which references it. Fields which reference the listeners are cleared if {@code clearListeners}
+   * is true.
+   */
+  private void addListenerRemoval(MethodSpec.Builder method, ViewBindings bindings,
+      boolean rebindable, Set<ListenerClass> dispatchedListeners, boolean clearListeners) {
+    Map<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> classMethodBindings =
+        bindings.getMethodBindings();
+    if (classMethodBindings.isEmpty()) {
+      return;
+    }
+
+    String fieldName = viewFieldName(bindings);
 
     // We only need to emit the null check if there are zero required bindings.
     boolean needsNullChecked = bindings.getRequiredBindings().isEmpty();
     if (needsNullChecked) {
-      unbindMethod.beginControlFlow("if ($N != null)", fieldName);
+      method.beginControlFlow("if ($N != null)", fieldName);
     }
 
     for (ListenerClass listenerClass : classMethodBindings.keySet()) {
       // We need to keep a reference to the listener
       // in case we need to unbind it via a remove method.
       boolean requiresRemoval = !"".equals(listenerClass.remover());
-      String listenerField = "null";
-      if (requiresRemoval) {
-        TypeName listenerClassName = bestGuess(listenerClass.type());
-        listenerField = fieldName + ((ClassName) listenerClassName).simpleName();
-        result.addField(listenerClassName, listenerField, PRIVATE);
-      }
+      String listenerField =
+          listenerFieldName(bindings, listenerClass, rebindable, dispatchedListeners);
+      String removed = requiresRemoval ? listenerField : "null";
 
       if (!VIEW_TYPE.equals(listenerClass.targetType())) {
-        unbindMethod.addStatement("(($T) $N).$N($N)", bestGuess(listenerClass.targetType()),
-            fieldName, removerOrSetter(listenerClass, requiresRemoval), listenerField);
+        method.addStatement("(($T) $N).$N($N)", bestGuess(listenerClass.targetType()),
+            fieldName, removerOrSetter(listenerClass, requiresRemoval), removed);
       } else {
-        unbindMethod.addStatement("$N.$N($N)", fieldName,
-            removerOrSetter(listenerClass, requiresRemoval), listenerField);
+        method.addStatement("$N.$N($N)", fieldName,
+            removerOrSetter(listenerClass, requiresRemoval), removed);
       }
 
-      if (requiresRemoval) {
-        unbindMethod.addStatement("$N = null", listenerField);
+      if (clearListeners && listenerField != null) {
+        method.addStatement("$N = null", listenerField);
       }
     }
 
-    unbindMethod.addStatement("$N = null", fieldName);
+    method.addStatement("$N = null", fieldName);
 
     if (needsNullChecked) {
-      unbindMethod.endControlFlow();
+      method.endControlFlow();
+    }
+  }
+
+  private static String viewFieldName(ViewBindings bindings) {
+    return bindings.isBoundToRoot() ? "viewSource" : "view" + bindings.getId().value;
+  }
+
+  /**
+   * The field which holds a listener set on the view of {@code bindings}, or null if it is not
+   * kept. Listeners are kept when they must be passed to a remove method, or when they are reused
+   * by {@code rebind} and are not a shared dispatcher.
+   */
+  private String listenerFieldName(ViewBindings bindings, ListenerClass listener,
+      boolean rebindable, Set<ListenerClass> dispatchedListeners) {
+    boolean requiresRemoval = !"".equals(listener.remover());
+    boolean dispatched = isDispatched(bindings, listener, dispatchedListeners);
+    if (!requiresRemoval && (!rebindable || dispatched)) {
+      return null;
     }
+    return viewFieldName(bindings) + ((ClassName) bestGuess(listener.type())).simpleName();
   }
 
   private String removerOrSetter(ListenerClass listenerClass, boolean requiresRemoval) {
@@ -284,155 +820,378 @@ final class BindingSet {
         : listenerClass.setter();
   }
 
-  private void addViewBindings(MethodSpec.Builder result, ViewBindings bindings) {
+  private void addViewBindings(MethodSpec.Builder result, ViewBindings bindings, String lookup,
+      Set<ListenerClass> dispatchedListeners, boolean rebindable) {
     if (bindings.isSingleFieldBinding()) {
       // Optimize the common case where there's a single binding directly to a field.
-      FieldViewBinding fieldBinding = bindings.getFieldBinding();
-      CodeBlock.Builder builder = CodeBlock.builder()
-          .add("target.$L = ", fieldBinding.getName());
+      result.addStatement("target.$L = $L", bindings.getFieldBinding().getName(),
+          createSingleFieldLookup(bindings, lookup));
+      return;
+    }
 
-      boolean requiresCast = requiresCast(fieldBinding.getType());
-      if (!requiresCast && !fieldBinding.isRequired()) {
-        builder.add("source.findViewById($L)", bindings.getId().code);
-      } else {
-        builder.add("$T.find", UTILS);
-        builder.add(fieldBinding.isRequired() ? "RequiredView" : "OptionalView");
-        if (requiresCast) {
-          builder.add("AsType");
-        }
-        builder.add("(source, $L", bindings.getId().code);
-        if (fieldBinding.isRequired() || requiresCast) {
-          builder.add(", $S", asHumanDescription(singletonList(fieldBinding)));
-        }
-        if (requiresCast) {
-          builder.add(", $T.class", fieldBinding.getRawType());
-        }
-        builder.add(")");
+    addViewLookup(result, bindings, lookup);
+    addFieldBindings(result, bindings);
+    addMethodBindings(result, bindings, dispatchedListeners, rebindable, false);
+  }
+
+  private static CodeBlock createSingleFieldLookup(ViewBindings bindings, String lookup) {
+    FieldViewBinding fieldBinding = bindings.getFieldBinding();
+    CodeBlock.Builder builder = CodeBlock.builder();
+
+    boolean requiresCast = requiresCast(fieldBinding.getType());
+    if (!requiresCast && !fieldBinding.isRequired()) {
+      builder.add("$N.findViewById($L)", lookup, bindings.getId().code);
+    } else {
+      builder.add("$T.find", UTILS);
+      builder.add(fieldBinding.isRequired() ? "RequiredView" : "OptionalView");
+      if (requiresCast) {
+        builder.add("AsType");
       }
-      result.addStatement("$L", builder.build());
-      return;
+      builder.add("($N, $L", lookup, bindings.getId().code);
+      if (fieldBinding.isRequired() || requiresCast) {
+        builder.add(", $S", asHumanDescription(singletonList(fieldBinding)));
+      }
+      if (requiresCast) {
+        builder.add(", $T.class", fieldBinding.getRawType());
+      }
+      builder.add(")");
     }
+    return builder.build();
+  }
 
+  /** Looks up the view for {@code bindings} into the {@code view} local. */
+  private static void addViewLookup(MethodSpec.Builder result, ViewBindings bindings,
+      String lookup) {
     List<ViewBinding> requiredViewBindings = bindings.getRequiredBindings();
     if (requiredViewBindings.isEmpty()) {
-      result.addStatement("view = source.findViewById($L)", bindings.getId().code);
+      result.addStatement("view = $N.findViewById($L)", lookup, bindings.getId().code);
     } else if (!bindings.isBoundToRoot()) {
-      result.addStatement("view = $T.findRequiredView(source, $L, $S)", UTILS,
+      result.addStatement("view = $T.findRequiredView($N, $L, $S)", UTILS, lookup,
           bindings.getId().code, asHumanDescription(requiredViewBindings));
     }
-
-    addFieldBindings(result, bindings);
-    addMethodBindings(result, bindings);
   }
 
   private void addFieldBindings(MethodSpec.Builder result, ViewBindings bindings) {
     FieldViewBinding fieldBinding = bindings.getFieldBinding();
     if (fieldBinding != null) {
-      if (requiresCast(fieldBinding.getType())) {
-        result.addStatement("target.$L = $T.castView(view, $L, $S, $T.class)",
-            fieldBinding.getName(), UTILS, bindings.getId().code,
-            asHumanDescription(singletonList(fieldBinding)), fieldBinding.getRawType());
-      } else {
-        result.addStatement("target.$L = view", fieldBinding.getName());
-      }
+      result.addStatement("target.$L = $L", fieldBinding.getName(),
+          createFieldCast(bindings, fieldBinding));
     }
   }
 
-  private void addMethodBindings(MethodSpec.Builder result, ViewBindings bindings) {
+  private static CodeBlock createFieldCast(ViewBindings bindings, FieldViewBinding fieldBinding) {
+    if (requiresCast(fieldBinding.getType())) {
+      return CodeBlock.of("$T.castView(view, $L, $S, $T.class)", UTILS, bindings.getId().code,
+          asHumanDescription(singletonList(fieldBinding)), fieldBinding.getRawType());
+    }
+    return CodeBlock.of("view");
+  }
+
+  /**
+   * @param publish Set listeners on the views stored when the binding was prepared instead of on
+   * the view which was just looked up.
+   */
+  private void addMethodBindings(MethodSpec.Builder result, ViewBindings bindings,
+      Set<ListenerClass> dispatchedListeners, boolean rebindable, boolean publish) {
     Map<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> classMethodBindings =
         bindings.getMethodBindings();
     if (classMethodBindings.isEmpty()) {
       return;
     }
 
-    // We only need to emit the null check if there are zero required bindings.
-    boolean needsNullChecked = bindings.getRequiredBindings().isEmpty();
-    if (needsNullChecked) {
-      result.beginControlFlow("if (view != null)");
-    }
-
-    // Add the view reference to the binding.
     String fieldName = "viewSource";
     String bindName = "source";
     if (!bindings.isBoundToRoot()) {
       fieldName = "view" + bindings.getId().value;
       bindName = "view";
     }
-    result.addStatement("$L = $N", fieldName, bindName);
+    if (publish) {
+      bindName = fieldName;
+    }
+
+    // We only need to emit the null check if there are zero required bindings.
+    boolean needsNullChecked = bindings.getRequiredBindings().isEmpty();
+    if (needsNullChecked) {
+      result.beginControlFlow("if ($N != null)", publish ? fieldName : "view");
+    }
+
+    if (!publish) {
+      // Add the view reference to the binding.
+      result.addStatement("$L = $N", fieldName, bindName);
+    }
 
     for (Map.Entry<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> e
         : classMethodBindings.entrySet()) {
       ListenerClass listener = e.getKey();
       Map<ListenerMethod, Set<MethodViewBinding>> methodBindings = e.getValue();
 
-      TypeSpec.Builder callback = TypeSpec.anonymousClassBuilder("")
-          .superclass(ClassName.bestGuess(listener.type()));
+      // Shared dispatchers and listeners kept for rebind were created up front.
+      Object setListener;
+      if (isDispatched(bindings, listener, dispatchedListeners)) {
+        setListener = dispatcherName(listener);
+      } else {
+        String listenerField =
+            listenerFieldName(bindings, listener, rebindable, dispatchedListeners);
+        if (listenerField == null) {
+          setListener = createListener(listener, methodBindings);
+        } else {
+          if (!rebindable) {
+            result.addStatement("$L = $L", listenerField,
+                createListener(listener, methodBindings));
+          }
+          setListener = listenerField;
+        }
+      }
 
-      for (ListenerMethod method : getListenerMethods(listener)) {
-        MethodSpec.Builder callbackMethod = MethodSpec.methodBuilder(method.name())
-            .addAnnotation(Override.class)
-            .addModifiers(PUBLIC)
-            .returns(bestGuess(method.returnType()));
-        String[] parameterTypes = method.parameters();
-        for (int i = 0, count = parameterTypes.length; i < count; i++) {
-          callbackMethod.addParameter(bestGuess(parameterTypes[i]), "p" + i);
+      if (!VIEW_TYPE.equals(listener.targetType())) {
+        result.addStatement("(($T) $N).$L($L)", bestGuess(listener.targetType()), bindName,
+            listener.setter(), setListener);
+      } else {
+        result.addStatement("$N.$L($L)", bindName, listener.setter(), setListener);
+      }
+    }
+
+    if (needsNullChecked) {
+      result.endControlFlow();
+    }
+  }
+
+  private static TypeSpec createListener(ListenerClass listener,
+      Map<ListenerMethod, Set<MethodViewBinding>> methodBindings) {
+    TypeSpec.Builder callback = TypeSpec.anonymousClassBuilder("$L",
+        createListenerArguments(getDebounce(methodBindings)))
+        .superclass(ClassName.bestGuess(listener.type()));
+
+    for (ListenerMethod method : getListenerMethods(listener)) {
+      MethodSpec.Builder callbackMethod = createCallbackMethod(method);
+
+      boolean hasReturnType = !"void".equals(method.returnType());
+      CodeBlock.Builder builder = CodeBlock.builder();
+      if (hasReturnType) {
+        builder.add("return ");
+      }
+
+      if (methodBindings.containsKey(method)) {
+        addCallbackInvocations(builder, method, methodBindings.get(method));
+      } else if (hasReturnType) {
+        builder.add("$L;\n", method.defaultReturn());
+      }
+      callbackMethod.addCode(builder.build());
+      callback.addMethod(callbackMethod.build());
+    }
+    return callback.build();
+  }
+
+  private static MethodSpec.Builder createCallbackMethod(ListenerMethod method) {
+    MethodSpec.Builder callbackMethod = MethodSpec.methodBuilder(method.name())
+        .addAnnotation(Override.class)
+        .addModifiers(PUBLIC)
+        .returns(bestGuess(method.returnType()));
+    String[] parameterTypes = method.parameters();
+    for (int i = 0, count = parameterTypes.length; i < count; i++) {
+      callbackMethod.addParameter(bestGuess(parameterTypes[i]), "p" + i);
+    }
+    return callbackMethod;
+  }
+
+  private static void addCallbackInvocations(CodeBlock.Builder builder, ListenerMethod method,
+      Set<MethodViewBinding> bindings) {
+    for (MethodViewBinding binding : bindings) {
+      builder.add("target.$L(", binding.getName());
+      List<Parameter> parameters = binding.getParameters();
+      String[] listenerParameters = method.parameters();
+      for (int i = 0, count = parameters.size(); i < count; i++) {
+        if (i > 0) {
+          builder.add(", ");
         }
 
-        boolean hasReturnType = !"void".equals(method.returnType());
-        CodeBlock.Builder builder = CodeBlock.builder();
+        Parameter parameter = parameters.get(i);
+        int listenerPosition = parameter.getListenerPosition();
+
+        if (parameter.requiresCast(listenerParameters[listenerPosition])) {
+          builder.add("$T.<$T>castParam(p$L, $S, $L, $S, $L)", UTILS, parameter.getType(),
+              listenerPosition, method.name(), listenerPosition, binding.getName(), i);
+        } else {
+          builder.add("p$L", listenerPosition);
+        }
+      }
+      builder.add(");\n");
+    }
+  }
+
+  /**
+   * A single listener for every view bound to {@code listener}. Each callback invokes the methods
+   * bound to the ID of the view it was called for, which is always its first parameter.
+   */
+  private TypeSpec createDispatcher(ListenerClass listener) {
+    TypeSpec.Builder dispatcher = TypeSpec.anonymousClassBuilder("$L",
+        createListenerArguments(getDispatchedDebounce(listener)))
+        .superclass(ClassName.bestGuess(listener.type()));
+
+    for (ListenerMethod method : getListenerMethods(listener)) {
+      MethodSpec.Builder callbackMethod = createCallbackMethod(method);
+      boolean hasReturnType = !"void".equals(method.returnType());
+
+      CodeBlock.Builder builder = CodeBlock.builder();
+      boolean first = true;
+      for (ViewBindings bindings : viewBindings) {
+        Map<ListenerMethod, Set<MethodViewBinding>> methodBindings =
+            bindings.getMethodBindings().get(listener);
+        if (!isDispatched(bindings, listener, methodBindings)
+            || !methodBindings.containsKey(method)) {
+          continue;
+        }
+        if (first) {
+          builder.addStatement("int id = p0.getId()");
+          builder.beginControlFlow("if (id == $L)", bindings.getId().code);
+          first = false;
+        } else {
+          builder.nextControlFlow("else if (id == $L)", bindings.getId().code);
+        }
         if (hasReturnType) {
           builder.add("return ");
         }
+        addCallbackInvocations(builder, method, methodBindings.get(method));
+      }
+      if (!first) {
+        builder.endControlFlow();
+      }
+      if (hasReturnType) {
+        builder.addStatement("return $L", method.defaultReturn());
+      }
+      callbackMethod.addCode(builder.build());
+      dispatcher.addMethod(callbackMethod.build());
+    }
+    return dispatcher.build();
+  }
 
-        if (methodBindings.containsKey(method)) {
-          for (MethodViewBinding binding : methodBindings.get(method)) {
-            builder.add("target.$L(", binding.getName());
-            List<Parameter> parameters = binding.getParameters();
-            String[] listenerParameters = method.parameters();
-            for (int i = 0, count = parameters.size(); i < count; i++) {
-              if (i > 0) {
-                builder.add(", ");
-              }
-
-              Parameter parameter = parameters.get(i);
-              int listenerPosition = parameter.getListenerPosition();
-
-              if (parameter.requiresCast(listenerParameters[listenerPosition])) {
-                builder.add("$T.<$T>castParam(p$L, $S, $L, $S, $L)", UTILS, parameter.getType(),
-                    listenerPosition, method.name(), listenerPosition, binding.getName(), i);
-              } else {
-                builder.add("p$L", listenerPosition);
-              }
-            }
-            builder.add(");\n");
-          }
-        } else if (hasReturnType) {
-          builder.add("$L;\n", method.defaultReturn());
+  /** Constructor arguments for a listener, which select the scope of a click listener. */
+  private static CodeBlock createListenerArguments(Debounce debounce) {
+    if (debounce == Debounce.BINDING) {
+      return CodeBlock.of("clickScope");
+    }
+    if (debounce == Debounce.VIEW) {
+      return CodeBlock.of("new $T()", DEBOUNCE_SCOPE);
+    }
+    return CodeBlock.of("");
+  }
+
+  private static Debounce getDebounce(Map<ListenerMethod, Set<MethodViewBinding>> methodBindings) {
+    for (Set<MethodViewBinding> bindings : methodBindings.values()) {
+      for (MethodViewBinding binding : bindings) {
+        if (binding.getDebounce() != null) {
+          return binding.getDebounce();
         }
-        callbackMethod.addCode(builder.build());
-        callback.addMethod(callbackMethod.build());
       }
+    }
+    return null;
+  }
 
-      boolean requiresRemoval = listener.remover().length() != 0;
-      String listenerField = null;
-      if (requiresRemoval) {
-        TypeName listenerClassName = bestGuess(listener.type());
-        listenerField = fieldName + ((ClassName) listenerClassName).simpleName();
-        result.addStatement("$L = $L", listenerField, callback.build());
+  private boolean hasBindingDebounce() {
+    for (ViewBindings bindings : viewBindings) {
+      for (Map<ListenerMethod, Set<MethodViewBinding>> methodBindings
+          : bindings.getMethodBindings().values()) {
+        if (getDebounce(methodBindings) == Debounce.BINDING) {
+          return true;
+        }
       }
+    }
+    return false;
+  }
 
-      if (!VIEW_TYPE.equals(listener.targetType())) {
-        result.addStatement("(($T) $N).$L($L)", bestGuess(listener.targetType()), bindName,
-            listener.setter(), requiresRemoval ? listenerField : callback.build());
-      } else {
-        result.addStatement("$N.$L($L)", bindName, listener.setter(),
-            requiresRemoval ? listenerField : callback.build());
+  private static String dispatcherName(ListenerClass listener) {
+    String simpleName = ((ClassName) bestGuess(listener.type())).simpleName();
+    return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+  }
+
+  /**
+   * Listener types which are bound on more than one view and can share a dispatcher. Dispatching
+   * requires that every callback receives the view it is set on as its first parameter, and that
+   * the listener is not one of several which are added to a view rather than set. Click
+   * listeners are only shared by views with the same debounce scope, which is not per view; views
+   * with any other scope keep their own listener.
+   */
+  private Set<ListenerClass> getDispatchedListeners() {
+    Set<ListenerClass> dispatched = new LinkedHashSet<>();
+    for (ViewBindings bindings : viewBindings) {
+      if (bindings.isBoundToRoot()) {
+        continue;
+      }
+      for (ListenerClass listener : bindings.getMethodBindings().keySet()) {
+        if (canDispatch(listener) && !dispatched.contains(listener)
+            && countDispatchable(listener) > 1) {
+          dispatched.add(listener);
+        }
       }
     }
+    return dispatched;
+  }
 
-    if (needsNullChecked) {
-      result.endControlFlow();
+  /** Whether the listener for {@code listener} on the view of {@code bindings} is a dispatcher. */
+  private boolean isDispatched(ViewBindings bindings, ListenerClass listener,
+      Set<ListenerClass> dispatchedListeners) {
+    return dispatchedListeners.contains(listener)
+        && isDispatched(bindings, listener, bindings.getMethodBindings().get(listener));
+  }
+
+  private boolean isDispatched(ViewBindings bindings, ListenerClass listener,
+      Map<ListenerMethod, Set<MethodViewBinding>> methodBindings) {
+    return !bindings.isBoundToRoot()
+        && methodBindings != null
+        && getDebounce(methodBindings) == getDispatchedDebounce(listener);
+  }
+
+  /** The number of views whose {@code listener} could be set to a dispatcher. */
+  private int countDispatchable(ListenerClass listener) {
+    int count = 0;
+    for (ViewBindings bindings : viewBindings) {
+      if (isDispatched(bindings, listener, bindings.getMethodBindings().get(listener))) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * The debounce scope of the dispatcher for {@code listener}: the scope other than per view which
+   * most of its views are bound with. Null for listeners other than clicks.
+   */
+  private Debounce getDispatchedDebounce(ListenerClass listener) {
+    Map<Debounce, Integer> counts = new LinkedHashMap<>();
+    Debounce result = null;
+    int resultCount = 0;
+    for (ViewBindings bindings : viewBindings) {
+      Map<ListenerMethod, Set<MethodViewBinding>> methodBindings =
+          bindings.getMethodBindings().get(listener);
+      if (bindings.isBoundToRoot() || methodBindings == null) {
+        continue;
+      }
+      Debounce debounce = getDebounce(methodBindings);
+      if (debounce == Debounce.VIEW) {
+        continue;
+      }
+      Integer count = counts.get(debounce);
+      int newCount = count == null ? 1 : count + 1;
+      counts.put(debounce, newCount);
+      if (newCount > resultCount) {
+        result = debounce;
+        resultCount = newCount;
+      }
+    }
+    return result;
+  }
+
+  private static boolean canDispatch(ListenerClass listener) {
+    if (!listener.remover().isEmpty()) {
+      return false;
+    }
+    for (ListenerMethod method : getListenerMethods(listener)) {
+      String[] parameters = method.parameters();
+      if (parameters.length == 0 || !parameters[0].equals(listener.targetType())) {
+        return false;
+      }
     }
+    return true;
   }
 
   private static List<ListenerMethod> getListenerMethods(ListenerClass listener) {
@@ -508,6 +1267,20 @@ final class BindingSet {
     }
   }
 
+  /** The distinct IDs which are looked up in the view hierarchy, in binding order. */
+  private List<Id> getLookupIds() {
+    Set<Id> ids = new LinkedHashSet<>();
+    for (ViewBindings bindings : viewBindings) {
+      if (!bindings.isBoundToRoot()) {
+        ids.add(bindings.getId());
+      }
+    }
+    for (FieldCollectionViewBinding binding : collectionBindings) {
+      ids.addAll(binding.getIds());
+    }
+    return new ArrayList<>(ids);
+  }
+
   /** True when this type's bindings require a view hierarchy. */
   private boolean hasViewBindings() {
     return !viewBindings.isEmpty() || !collectionBindings.isEmpty();
@@ -524,15 +1297,31 @@ final class BindingSet {
   }
 
   /** True when this type's bindings use Resource directly instead of Context. */
-  private boolean hasResourceBindingsNeedingResource(int sdk) {
+  private boolean hasResourceBindingsNeedingResource(int sdk, boolean cacheResources) {
     for (ResourceBinding binding : resourceBindings) {
-      if (binding.requiresResources(sdk)) {
+      if (binding.requiresResources(sdk, cacheResources)) {
         return true;
       }
     }
     return false;
   }
 
+  /** True when a resource binding assigns its field from a callback. */
+  private boolean hasAsyncResourceBindings() {
+    return !getAsyncBitmapBindings().isEmpty();
+  }
+
+  /** Bitmaps which are decoded in the background after the constructor returns. */
+  private List<FieldBitmapBinding> getAsyncBitmapBindings() {
+    List<FieldBitmapBinding> result = new ArrayList<>();
+    for (ResourceBinding binding : resourceBindings) {
+      if (binding instanceof FieldBitmapBinding && ((FieldBitmapBinding) binding).isAsync()) {
+        result.add((FieldBitmapBinding) binding);
+      }
+    }
+    return result;
+  }
+
   private boolean hasMethodBindings() {
     for (ViewBindings bindings : viewBindings) {
       if (!bindings.getMethodBindings().isEmpty()) {
@@ -574,6 +1363,10 @@ final class BindingSet {
     return !VIEW_TYPE.equals(type.toString());
   }
 
+  ClassName getBindingClassName() {
+    return bindingClassName;
+  }
+
   @Override public String toString() {
     return bindingClassName.toString();
   }
@@ -639,6 +1432,17 @@ final class BindingSet {
       this.parentBinding = parent;
     }
 
+    /** Whether {@code id} is already bound to {@code listener} with another debounce scope. */
+    boolean hasConflictingDebounce(Id id, ListenerClass listener, Debounce debounce) {
+      ViewBindings viewBindings = viewIdMap.get(id);
+      if (viewBindings == null) {
+        return false;
+      }
+      Map<ListenerMethod, Set<MethodViewBinding>> methodBindings =
+          viewBindings.getMethodBindings().get(listener);
+      return methodBindings != null && getDebounce(methodBindings) != debounce;
+    }
+
     ViewBindings getViewBinding(Id id) {
       return viewIdMap.get(id);
     }
@@ -3,6 +3,7 @@ package butterknife.compiler;
 import butterknife.BindArray;
 import butterknife.BindBitmap;
 import butterknife.BindBool;
+import butterknife.BindChildren;
 import butterknife.BindColor;
 import butterknife.BindDimen;
 import butterknife.BindDrawable;
@@ -84,6 +85,13 @@ import static javax.lang.model.element.Modifier.STATIC;
 public final class ButterKnifeProcessor extends AbstractProcessor {
   // TODO remove when http://b.android.com/187527 is released.
   private static final String OPTION_SDK_INT = "butterknife.minSdk";
+  private static final String OPTION_INDEX = "butterknife.index";
+  private static final String OPTION_SINGLE_PASS_LOOKUP = "butterknife.singlePassLookup";
+  private static final String OPTION_SHARED_LISTENERS = "butterknife.sharedListeners";
+  private static final String OPTION_REBINDABLE = "butterknife.rebindable";
+  private static final String OPTION_CACHE_RESOURCES = "butterknife.cacheResources";
+  private static final String OPTION_ASYNC_BIND = "butterknife.asyncBind";
+  private static final String OPTION_TRACE = "butterknife.trace";
   static final Id NO_ID = new Id(-1);
   static final String VIEW_TYPE = "android.view.View";
   private static final String COLOR_STATE_LIST_TYPE = "android.content.res.ColorStateList";
@@ -93,6 +101,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
   private static final String NULLABLE_ANNOTATION_NAME = "Nullable";
   private static final String STRING_TYPE = "java.lang.String";
   private static final String LIST_TYPE = List.class.getCanonicalName();
+  private static final String VIEWS_BY_ID_TYPE = "butterknife.ViewsById";
   private static final List<Class<? extends Annotation>> LISTENERS = Arrays.asList(//
       OnCheckedChanged.class, //
       OnClick.class, //
@@ -116,8 +125,20 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
   private Filer filer;
   private Trees trees;
   private int sdk = 1;
+  private String indexName;
+  private boolean singlePassLookup;
+  private boolean sharedListeners;
+  private boolean rebindable;
+  private boolean cacheResources;
+  private boolean asyncBind;
+  private boolean trace;
 
   private final Map<Integer, Id> symbols = new LinkedHashMap<>();
+  /** Bindings of every round by binary name of their target, written to the index at the end. */
+  private final Map<String, BindingSet> indexedBindings = new LinkedHashMap<>();
+  /** Qualified names of the binding classes written so far. */
+  private final Set<String> generatedBindings = new LinkedHashSet<>();
+  private boolean indexWritten;
 
   @Override public synchronized void init(ProcessingEnvironment env) {
     super.init(env);
@@ -134,6 +155,25 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       }
     }
 
+    String indexName = env.getOptions().get(OPTION_INDEX);
+    if (indexName != null) {
+      if (SourceVersion.isName(indexName)) {
+        this.indexName = indexName;
+      } else {
+        env.getMessager()
+            .printMessage(Kind.ERROR, "Supplied index option '"
+                + indexName
+                + "' is not a valid fully-qualified class name.");
+      }
+    }
+
+    singlePassLookup = Boolean.parseBoolean(env.getOptions().get(OPTION_SINGLE_PASS_LOOKUP));
+    sharedListeners = Boolean.parseBoolean(env.getOptions().get(OPTION_SHARED_LISTENERS));
+    rebindable = Boolean.parseBoolean(env.getOptions().get(OPTION_REBINDABLE));
+    cacheResources = Boolean.parseBoolean(env.getOptions().get(OPTION_CACHE_RESOURCES));
+    asyncBind = Boolean.parseBoolean(env.getOptions().get(OPTION_ASYNC_BIND));
+    trace = Boolean.parseBoolean(env.getOptions().get(OPTION_TRACE));
+
     elementUtils = env.getElementUtils();
     typeUtils = env.getTypeUtils();
     filer = env.getFiler();
@@ -144,7 +184,16 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
   }
 
   @Override public Set<String> getSupportedOptions() {
-    return Collections.singleton(OPTION_SDK_INT);
+    Set<String> options = new LinkedHashSet<>();
+    options.add(OPTION_SDK_INT);
+    options.add(OPTION_INDEX);
+    options.add(OPTION_SINGLE_PASS_LOOKUP);
+    options.add(OPTION_SHARED_LISTENERS);
+    options.add(OPTION_REBINDABLE);
+    options.add(OPTION_CACHE_RESOURCES);
+    options.add(OPTION_ASYNC_BIND);
+    options.add(OPTION_TRACE);
+    return options;
   }
 
   @Override public Set<String> getSupportedAnnotationTypes() {
@@ -161,6 +210,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     annotations.add(BindArray.class);
     annotations.add(BindBitmap.class);
     annotations.add(BindBool.class);
+    annotations.add(BindChildren.class);
     annotations.add(BindColor.class);
     annotations.add(BindDimen.class);
     annotations.add(BindDrawable.class);
@@ -181,7 +231,9 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       TypeElement typeElement = entry.getKey();
       BindingSet binding = entry.getValue();
 
-      JavaFile javaFile = binding.brewJava(sdk);
+      JavaFile javaFile = binding.brewJava(sdk, singlePassLookup, sharedListeners, rebindable,
+          cacheResources, asyncBind, trace);
+      generatedBindings.add(javaFile.packageName + "." + javaFile.typeSpec.name);
       try {
         javaFile.writeTo(filer);
       } catch (IOException e) {
@@ -189,9 +241,56 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       }
     }
 
+    if (indexName != null) {
+      for (Map.Entry<TypeElement, BindingSet> entry : bindingMap.entrySet()) {
+        TypeElement typeElement = entry.getKey();
+        if (indexWritten) {
+          error(typeElement, "Binding for %s was generated after index %s was written.",
+              typeElement, indexName);
+          continue;
+        }
+        String binaryName = elementUtils.getBinaryName(typeElement).toString();
+        indexedBindings.put(binaryName, entry.getValue());
+      }
+      // Types generated by other processors may still gain bindings in later rounds so the index
+      // is only written once a round brings nothing new. Waiting for the last round would work
+      // too but javac warns about sources created in it.
+      if (!indexWritten && !indexedBindings.isEmpty()
+          && (env.processingOver() || hasOnlyGeneratedBindings(env))) {
+        indexWritten = true;
+        writeIndex();
+      }
+    }
+
+    return true;
+  }
+
+  /** True when every type of the round is a binding generated in an earlier round. */
+  private boolean hasOnlyGeneratedBindings(RoundEnvironment env) {
+    for (Element element : env.getRootElements()) {
+      if (!(element instanceof TypeElement)
+          || !generatedBindings.contains(((TypeElement) element).getQualifiedName().toString())) {
+        return false;
+      }
+    }
     return true;
   }
 
+  private void writeIndex() {
+    BindingIndexSet.Builder builder = BindingIndexSet.newBuilder(indexName);
+    for (Map.Entry<String, BindingSet> entry : indexedBindings.entrySet()) {
+      builder.addBinding(entry.getKey(), entry.getValue());
+    }
+
+    JavaFile javaFile = builder.build().brewJava();
+    try {
+      javaFile.writeTo(filer);
+    } catch (IOException e) {
+      processingEnv.getMessager()
+          .printMessage(Kind.ERROR, "Unable to write index " + indexName + ": " + e.getMessage());
+    }
+  }
+
   private Map<TypeElement, BindingSet> findAndParseTargets(RoundEnvironment env) {
     Map<TypeElement, BindingSet.Builder> builderMap = new LinkedHashMap<>();
     Set<TypeElement> erasedTargetNames = new LinkedHashSet<>();
@@ -310,6 +409,17 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       }
     }
 
+    // Process each @BindChildren element.
+    for (Element element : env.getElementsAnnotatedWith(BindChildren.class)) {
+      // we don't SuperficialValidation.validateElement(element)
+      // so that an unresolved View type can be generated by later processing rounds
+      try {
+        parseBindChildren(element, builderMap, erasedTargetNames);
+      } catch (Exception e) {
+        logParsingError(element, BindChildren.class, e);
+      }
+    }
+
     // Process each annotation that corresponds to a listener.
     for (Class<? extends Annotation> listener : LISTENERS) {
       findAndParseListener(env, listener, builderMap, erasedTargetNames);
@@ -470,50 +580,17 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     boolean hasError = isInaccessibleViaGeneratedCode(BindViews.class, "fields", element)
         || isBindingInWrongPackage(BindViews.class, element);
 
-    // Verify that the type is a List or an array.
-    TypeMirror elementType = element.asType();
-    String erasedType = doubleErasure(elementType);
+    // Verify that the type is a List, an array, or a ViewsById of views.
+    FieldCollectionViewBinding.Kind kind = getCollectionKind(element.asType());
     TypeMirror viewType = null;
-    FieldCollectionViewBinding.Kind kind = null;
-    if (elementType.getKind() == TypeKind.ARRAY) {
-      ArrayType arrayType = (ArrayType) elementType;
-      viewType = arrayType.getComponentType();
-      kind = FieldCollectionViewBinding.Kind.ARRAY;
-    } else if (LIST_TYPE.equals(erasedType)) {
-      DeclaredType declaredType = (DeclaredType) elementType;
-      List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
-      if (typeArguments.size() != 1) {
-        error(element, "@%s List must have a generic component. (%s.%s)",
-            BindViews.class.getSimpleName(), enclosingElement.getQualifiedName(),
-            element.getSimpleName());
-        hasError = true;
-      } else {
-        viewType = typeArguments.get(0);
-      }
-      kind = FieldCollectionViewBinding.Kind.LIST;
-    } else {
-      error(element, "@%s must be a List or array. (%s.%s)", BindViews.class.getSimpleName(),
-          enclosingElement.getQualifiedName(), element.getSimpleName());
+    if (kind == null) {
+      error(element, "@%s must be a List, array, or ViewsById. (%s.%s)",
+          BindViews.class.getSimpleName(), enclosingElement.getQualifiedName(),
+          element.getSimpleName());
       hasError = true;
-    }
-    if (viewType != null && viewType.getKind() == TypeKind.TYPEVAR) {
-      TypeVariable typeVariable = (TypeVariable) viewType;
-      viewType = typeVariable.getUpperBound();
-    }
-
-    // Verify that the target type extends from View.
-    if (viewType != null && !isSubtypeOfType(viewType, VIEW_TYPE) && !isInterface(viewType)) {
-      if (viewType.getKind() == TypeKind.ERROR) {
-        note(element, "@%s List or array with unresolved type (%s) "
-                + "must elsewhere be generated as a View or interface. (%s.%s)",
-            BindViews.class.getSimpleName(), viewType, enclosingElement.getQualifiedName(),
-            element.getSimpleName());
-      } else {
-        error(element, "@%s List or array type must extend from View or be an interface. (%s.%s)",
-            BindViews.class.getSimpleName(), enclosingElement.getQualifiedName(),
-            element.getSimpleName());
-        hasError = true;
-      }
+    } else {
+      viewType = getCollectionViewType(element, BindViews.class, kind);
+      hasError |= viewType == null;
     }
 
     // Assemble information on the field.
@@ -552,6 +629,102 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     erasedTargetNames.add(enclosingElement);
   }
 
+  private void parseBindChildren(Element element, Map<TypeElement, BindingSet.Builder> builderMap,
+      Set<TypeElement> erasedTargetNames) {
+    TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
+
+    // Start by verifying common generated code restrictions.
+    boolean hasError = isInaccessibleViaGeneratedCode(BindChildren.class, "fields", element)
+        || isBindingInWrongPackage(BindChildren.class, element);
+
+    // Children have no IDs to key a ViewsById by, so only a List or an array of views will do.
+    FieldCollectionViewBinding.Kind kind = getCollectionKind(element.asType());
+    TypeMirror viewType = null;
+    if (kind == null || kind == FieldCollectionViewBinding.Kind.VIEWS_BY_ID) {
+      error(element, "@%s must be a List or array. (%s.%s)", BindChildren.class.getSimpleName(),
+          enclosingElement.getQualifiedName(), element.getSimpleName());
+      hasError = true;
+    } else {
+      viewType = getCollectionViewType(element, BindChildren.class, kind);
+      hasError |= viewType == null;
+    }
+
+    if (hasError) {
+      return;
+    }
+
+    String name = element.getSimpleName().toString();
+    int id = element.getAnnotation(BindChildren.class).value();
+    TypeName type = TypeName.get(viewType);
+    boolean required = isFieldRequired(element);
+
+    BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
+    builder.addFieldCollection(new FieldCollectionViewBinding(name, type, kind,
+        Collections.singletonList(getId(id)), required, true));
+
+    erasedTargetNames.add(enclosingElement);
+  }
+
+  /** Returns the kind of collection {@code type} is, or null if it is not a supported one. */
+  private FieldCollectionViewBinding.Kind getCollectionKind(TypeMirror type) {
+    if (type.getKind() == TypeKind.ARRAY) {
+      return FieldCollectionViewBinding.Kind.ARRAY;
+    }
+    String erasedType = doubleErasure(type);
+    if (LIST_TYPE.equals(erasedType)) {
+      return FieldCollectionViewBinding.Kind.LIST;
+    }
+    if (VIEWS_BY_ID_TYPE.equals(erasedType)) {
+      return FieldCollectionViewBinding.Kind.VIEWS_BY_ID;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the type of the views held by the {@code kind} collection field {@code element}, or
+   * null after reporting an error if it does not hold views. An unresolved type is returned since
+   * it may be generated as a view in a later round.
+   */
+  private TypeMirror getCollectionViewType(Element element,
+      Class<? extends Annotation> annotationClass, FieldCollectionViewBinding.Kind kind) {
+    TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
+    TypeMirror viewType;
+    if (kind == FieldCollectionViewBinding.Kind.ARRAY) {
+      viewType = ((ArrayType) element.asType()).getComponentType();
+    } else {
+      List<? extends TypeMirror> typeArguments =
+          ((DeclaredType) element.asType()).getTypeArguments();
+      if (typeArguments.size() != 1) {
+        error(element, "@%s %s must have a generic component. (%s.%s)",
+            annotationClass.getSimpleName(),
+            kind == FieldCollectionViewBinding.Kind.LIST ? "List" : "ViewsById",
+            enclosingElement.getQualifiedName(), element.getSimpleName());
+        return null;
+      }
+      viewType = typeArguments.get(0);
+    }
+    if (viewType.getKind() == TypeKind.TYPEVAR) {
+      TypeVariable typeVariable = (TypeVariable) viewType;
+      viewType = typeVariable.getUpperBound();
+    }
+
+    // Verify that the target type extends from View.
+    if (!isSubtypeOfType(viewType, VIEW_TYPE) && !isInterface(viewType)) {
+      if (viewType.getKind() == TypeKind.ERROR) {
+        note(element, "@%s List or array with unresolved type (%s) "
+                + "must elsewhere be generated as a View or interface. (%s.%s)",
+            annotationClass.getSimpleName(), viewType, enclosingElement.getQualifiedName(),
+            element.getSimpleName());
+      } else {
+        error(element, "@%s List or array type must extend from View or be an interface. (%s.%s)",
+            annotationClass.getSimpleName(), enclosingElement.getQualifiedName(),
+            element.getSimpleName());
+        return null;
+      }
+    }
+    return viewType;
+  }
+
   private void parseResourceBool(Element element,
       Map<TypeElement, BindingSet.Builder> builderMap, Set<TypeElement> erasedTargetNames) {
     boolean hasError = false;
@@ -578,7 +751,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     int id = element.getAnnotation(BindBool.class).value();
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-    builder.addResource(new FieldResourceBinding(getId(id), name, FieldResourceBinding.Type.BOOL));
+    builder.addResource(new FieldResourceBinding(getId(id), name,
+        TypeName.get(element.asType()), FieldResourceBinding.Type.BOOL));
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -614,6 +788,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
     builder.addResource(new FieldResourceBinding(getId(id), name,
+        TypeName.get(element.asType()),
         isColorStateList ? FieldResourceBinding.Type.COLOR_STATE_LIST
             : FieldResourceBinding.Type.COLOR));
 
@@ -651,6 +826,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
     builder.addResource(new FieldResourceBinding(getId(id), name,
+        TypeName.get(element.asType()),
         isInt ? FieldResourceBinding.Type.DIMEN_AS_INT : FieldResourceBinding.Type.DIMEN_AS_FLOAT));
 
     erasedTargetNames.add(enclosingElement);
@@ -679,11 +855,22 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
     // Assemble information on the field.
     String name = element.getSimpleName().toString();
-    int id = element.getAnnotation(BindBitmap.class).value();
+    BindBitmap annotation = element.getAnnotation(BindBitmap.class);
+    int id = annotation.value();
+    int width = annotation.width();
+    int height = annotation.height();
+    boolean async = annotation.async();
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-    builder.addResource(
-        new FieldResourceBinding(getId(id), name, FieldResourceBinding.Type.BITMAP));
+    if (width == 0 && height == 0 && !async) {
+      builder.addResource(
+          new FieldResourceBinding(getId(id), name, TypeName.get(element.asType()),
+              FieldResourceBinding.Type.BITMAP));
+    } else {
+      builder.addResource(
+          new FieldBitmapBinding(getId(id), name, TypeName.get(element.asType()), getId(width),
+              getId(height), async));
+    }
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -715,7 +902,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     int tint = element.getAnnotation(BindDrawable.class).tint();
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-    builder.addResource(new FieldDrawableBinding(getId(id), name, getId(tint)));
+    builder.addResource(
+        new FieldDrawableBinding(getId(id), name, TypeName.get(element.asType()), getId(tint)));
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -746,7 +934,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     int id = element.getAnnotation(BindFloat.class).value();
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-    builder.addResource(new FieldResourceBinding(getId(id), name, FieldResourceBinding.Type.FLOAT));
+    builder.addResource(new FieldResourceBinding(getId(id), name,
+        TypeName.get(element.asType()), FieldResourceBinding.Type.FLOAT));
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -776,7 +965,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     int id = element.getAnnotation(BindInt.class).value();
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-    builder.addResource(new FieldResourceBinding(getId(id), name, FieldResourceBinding.Type.INT));
+    builder.addResource(new FieldResourceBinding(getId(id), name,
+        TypeName.get(element.asType()), FieldResourceBinding.Type.INT));
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -808,7 +998,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
     builder.addResource(
-        new FieldResourceBinding(getId(id), name, FieldResourceBinding.Type.STRING));
+        new FieldResourceBinding(getId(id), name, TypeName.get(element.asType()),
+            FieldResourceBinding.Type.STRING));
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -841,7 +1032,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     int id = element.getAnnotation(BindArray.class).value();
 
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-    builder.addResource(new FieldResourceBinding(getId(id), name, type));
+    builder.addResource(
+        new FieldResourceBinding(getId(id), name, TypeName.get(element.asType()), type));
 
     erasedTargetNames.add(enclosingElement);
   }
@@ -1083,9 +1275,18 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
       }
     }
 
-    MethodViewBinding binding = new MethodViewBinding(name, Arrays.asList(parameters), required);
+    OnClick.Debounce debounce = annotation instanceof OnClick
+        ? ((OnClick) annotation).debounce()
+        : null;
+    MethodViewBinding binding =
+        new MethodViewBinding(name, Arrays.asList(parameters), required, debounce);
     BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
     for (int id : ids) {
+      if (builder.hasConflictingDebounce(getId(id), listener, debounce)) {
+        error(element, "Conflicting @OnClick debounce scopes specified for ID %d. (%s.%s)",
+            id, enclosingElement.getQualifiedName(), element.getSimpleName());
+        return;
+      }
       if (!builder.addMethod(getId(id), listener, method, binding)) {
         error(element, "Multiple listener methods with return value specified for ID %d. (%s.%s)",
             id, enclosingElement.getQualifiedName(), element.getSimpleName());
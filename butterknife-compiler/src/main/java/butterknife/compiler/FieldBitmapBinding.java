@@ -0,0 +1,83 @@
+package butterknife.compiler;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+/** A {@code @BindBitmap} field decoded at a requested size or asynchronously. */
+final class FieldBitmapBinding implements ResourceBinding {
+  private static final ClassName BITMAP = ClassName.get("android.graphics", "Bitmap");
+  private static final ClassName BITMAPS = ClassName.get("butterknife.internal", "Bitmaps");
+  private static final ClassName CALLBACK = BITMAPS.nestedClass("Callback");
+  static final ClassName REQUEST = BITMAPS.nestedClass("Request");
+
+  private final Id id;
+  private final String name;
+  private final TypeName type;
+  private final Id widthId;
+  private final Id heightId;
+  private final boolean async;
+
+  FieldBitmapBinding(Id id, String name, TypeName type, Id widthId, Id heightId,
+      boolean async) {
+    this.id = id;
+    this.name = name;
+    this.type = type;
+    this.widthId = widthId;
+    this.heightId = heightId;
+    this.async = async;
+  }
+
+  @Override public Id id() {
+    return id;
+  }
+
+  @Override public String name() {
+    return name;
+  }
+
+  @Override public TypeName type() {
+    return type;
+  }
+
+  /** True if the field is assigned by a callback, which requires a final target. */
+  boolean isAsync() {
+    return async;
+  }
+
+  /** The binding's field which holds the request of an async decode, so unbind can cancel it. */
+  String requestFieldName() {
+    return name + "Request";
+  }
+
+  @Override public boolean requiresResources(int sdk, boolean cacheResources) {
+    return false;
+  }
+
+  @Override public CodeBlock render(int sdk, boolean cacheResources) {
+    if (!async) {
+      return CodeBlock.of("target.$L = $L", name, renderValue(sdk, cacheResources));
+    }
+    TypeSpec callback = TypeSpec.anonymousClassBuilder("")
+        .addSuperinterface(CALLBACK)
+        .addMethod(MethodSpec.methodBuilder("onBitmapDecoded")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(BITMAP, "bitmap")
+            .addStatement("target.$L = bitmap", name)
+            .build())
+        .build();
+    return CodeBlock.of("$N = $T.decodeAsync(context, $L, $L, $L, $L)", requestFieldName(), BITMAPS,
+        id.code, widthId.code, heightId.code, callback);
+  }
+
+  /** Decodes synchronously. Bindings prepared off the main thread are already asynchronous. */
+  @Override public CodeBlock renderValue(int sdk, boolean cacheResources) {
+    return CodeBlock.of("$T.decode(context, $L, $L, $L)", BITMAPS, id.code, widthId.code,
+        heightId.code);
+  }
+}
@@ -1,21 +1,33 @@
 package butterknife.compiler;
 
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import java.util.List;
 
 import static butterknife.compiler.BindingSet.UTILS;
 import static butterknife.compiler.BindingSet.requiresCast;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.STATIC;
 
 final class FieldCollectionViewBinding {
+  static final ClassName VIEWS_BY_ID_TYPE = ClassName.get("butterknife", "ViewsById");
+
   enum Kind {
-    ARRAY("arrayOf"),
-    LIST("listOf");
+    ARRAY(UTILS, "arrayOf"),
+    LIST(UTILS, "listOf"),
+    /** Keyed by ID. The factory takes the IDs before the views. */
+    VIEWS_BY_ID(VIEWS_BY_ID_TYPE, "of");
 
+    final ClassName factoryType;
     final String factoryName;
 
-    Kind(String factoryName) {
+    Kind(ClassName factoryType, String factoryName) {
+      this.factoryType = factoryType;
       this.factoryName = factoryName;
     }
   }
@@ -25,35 +37,119 @@ final class FieldCollectionViewBinding {
   private final Kind kind;
   private final boolean required;
   private final List<Id> ids;
+  /** True when bound to the children of the single view group in {@link #ids}. */
+  private final boolean children;
 
   FieldCollectionViewBinding(String name, TypeName type, Kind kind, List<Id> ids,
       boolean required) {
+    this(name, type, kind, ids, required, false);
+  }
+
+  FieldCollectionViewBinding(String name, TypeName type, Kind kind, List<Id> ids,
+      boolean required, boolean children) {
     this.name = name;
     this.type = type;
     this.kind = kind;
     this.ids = ids;
     this.required = required;
+    this.children = children;
+  }
+
+  List<Id> getIds() {
+    return ids;
+  }
+
+  /** True if the IDs are passed to the factory, which needs them in a constant of the binding. */
+  boolean requiresIdsField() {
+    return kind == Kind.VIEWS_BY_ID;
   }
 
-  CodeBlock render() {
-    CodeBlock.Builder builder = CodeBlock.builder()
-        .add("target.$L = $T.$L(", name, UTILS, kind.factoryName);
+  /**
+   * The binding's constant which holds the IDs, such as {@code NAME_VIEWS_VIEW_IDS} for a field
+   * named {@code nameViews}. The suffix keeps it apart from the {@code VIEW_IDS} of the binding.
+   */
+  String idsFieldName() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isUpperCase(c) && i > 0) {
+        builder.append('_');
+      }
+      builder.append(Character.toUpperCase(c));
+    }
+    return builder.append("_VIEW_IDS").toString();
+  }
+
+  /** The constant in which the IDs are created once rather than on every bind. */
+  FieldSpec createIdsField() {
+    CodeBlock.Builder initializer = CodeBlock.builder().add("{ ");
     for (int i = 0; i < ids.size(); i++) {
       if (i > 0) {
+        initializer.add(", ");
+      }
+      initializer.add("$L", ids.get(i).code);
+    }
+    return FieldSpec.builder(int[].class, idsFieldName(), PRIVATE, STATIC, FINAL)
+        .initializer(initializer.add(" }").build())
+        .build();
+  }
+
+  /** The type of the bound field. */
+  TypeName getFieldType() {
+    switch (kind) {
+      case ARRAY:
+        return ArrayTypeName.of(type);
+      case LIST:
+        return ParameterizedTypeName.get(ClassName.get(List.class), type);
+      case VIEWS_BY_ID:
+        return ParameterizedTypeName.get(VIEWS_BY_ID_TYPE, type);
+      default:
+        throw new AssertionError(kind);
+    }
+  }
+
+  /** @param lookup Name of the {@code View} or {@code ViewFinder} in which to find views. */
+  CodeBlock render(String lookup) {
+    return CodeBlock.of("target.$L = $L", name, renderValue(lookup));
+  }
+
+  /**
+   * Renders the collection of views without assigning it to the field. Required views are never
+   * null so they are put into an array, or wrapped in a list, as they are without being filtered.
+   */
+  CodeBlock renderValue(String lookup) {
+    if (children) {
+      return renderChildren(lookup);
+    }
+    // Generic component types cannot be created as an array literal.
+    boolean arrayLiteral = required && kind == Kind.ARRAY && type instanceof ClassName;
+    CodeBlock.Builder builder = CodeBlock.builder();
+    if (arrayLiteral) {
+      builder.add("new $T[] {", type);
+    } else if (required && kind == Kind.LIST) {
+      builder.add("$T.listOfRequired(", UTILS);
+    } else {
+      builder.add("$T.$L(", kind.factoryType, kind.factoryName);
+    }
+    if (requiresIdsField()) {
+      builder.add("$N", idsFieldName());
+    }
+    for (int i = 0; i < ids.size(); i++) {
+      if (i > 0 || kind == Kind.VIEWS_BY_ID) {
         builder.add(", ");
       }
       builder.add("\n");
 
       boolean requiresCast = requiresCast(type);
       if (!requiresCast && !required) {
-        builder.add("source.findViewById($L)", ids.get(i).code);
+        builder.add("$N.findViewById($L)", lookup, ids.get(i).code);
       } else {
         builder.add("$T.find", UTILS);
         builder.add(required ? "RequiredView" : "OptionalView");
         if (requiresCast) {
           builder.add("AsType");
         }
-        builder.add("(source, $L, \"field '$L'\"", ids.get(i).code, name);
+        builder.add("($N, $L, \"field '$L'\"", lookup, ids.get(i).code, name);
         if (requiresCast) {
           TypeName rawType = type;
           if (rawType instanceof ParameterizedTypeName) {
@@ -64,6 +160,20 @@ final class FieldCollectionViewBinding {
         builder.add(")");
       }
     }
-    return builder.add(")").build();
+    return builder.add(arrayLiteral ? " }" : ")").build();
+  }
+
+  /** Renders the children of the view group, which are never null, without filtering them. */
+  private CodeBlock renderChildren(String lookup) {
+    TypeName rawType = type;
+    if (rawType instanceof ParameterizedTypeName) {
+      rawType = ((ParameterizedTypeName) rawType).rawType;
+    }
+    CodeBlock children = CodeBlock.of("$T.find$LChildren($N, $L, \"field '$L'\", $T.class)", UTILS,
+        required ? "Required" : "Optional", lookup, ids.get(0).code, name, rawType);
+    if (kind == Kind.LIST) {
+      return CodeBlock.of("$T.listOfRequired($L)", UTILS, children);
+    }
+    return children;
   }
 }
@@ -1,6 +1,7 @@
 package butterknife.compiler;
 
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
 
 import static butterknife.compiler.BindingSet.CONTEXT_COMPAT;
 import static butterknife.compiler.BindingSet.UTILS;
@@ -8,11 +9,13 @@ import static butterknife.compiler.BindingSet.UTILS;
 final class FieldDrawableBinding implements ResourceBinding {
   private final Id id;
   private final String name;
+  private final TypeName type;
   private final Id tintAttributeId;
 
-  FieldDrawableBinding(Id id, String name, Id tintAttributeId) {
+  FieldDrawableBinding(Id id, String name, TypeName type, Id tintAttributeId) {
     this.id = id;
     this.name = name;
+    this.type = type;
     this.tintAttributeId = tintAttributeId;
   }
 
@@ -20,18 +23,30 @@ final class FieldDrawableBinding implements ResourceBinding {
     return id;
   }
 
-  @Override public boolean requiresResources(int sdk) {
+  @Override public String name() {
+    return name;
+  }
+
+  @Override public TypeName type() {
+    return type;
+  }
+
+  @Override public boolean requiresResources(int sdk, boolean cacheResources) {
     return false;
   }
 
-  @Override public CodeBlock render(int sdk) {
+  @Override public CodeBlock render(int sdk, boolean cacheResources) {
+    return CodeBlock.of("target.$L = $L", name, renderValue(sdk, cacheResources));
+  }
+
+  @Override public CodeBlock renderValue(int sdk, boolean cacheResources) {
     if (tintAttributeId.value != 0) {
-      return CodeBlock.of("target.$L = $T.getTintedDrawable(context, $L, $L)", name, UTILS, id.code,
+      return CodeBlock.of("$T.getTintedDrawable(context, $L, $L)", UTILS, id.code,
           tintAttributeId.code);
     }
     if (sdk >= 21) {
-      return CodeBlock.of("target.$L = context.getDrawable($L)", name, id.code);
+      return CodeBlock.of("context.getDrawable($L)", id.code);
     }
-    return CodeBlock.of("target.$L = $T.getDrawable(context, $L)", name, CONTEXT_COMPAT, id.code);
+    return CodeBlock.of("$T.getDrawable(context, $L)", CONTEXT_COMPAT, id.code);
   }
 }
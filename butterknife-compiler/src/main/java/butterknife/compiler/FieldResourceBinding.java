@@ -2,6 +2,7 @@ package butterknife.compiler;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -11,34 +12,39 @@ import static java.util.Collections.unmodifiableList;
 
 final class FieldResourceBinding implements ResourceBinding {
   enum Type {
-    BITMAP(new ResourceMethod(BindingSet.BITMAP_FACTORY, "decodeResource", true, 1)),
-    BOOL("getBoolean"),
-    COLOR(new ResourceMethod(BindingSet.CONTEXT_COMPAT, "getColor", false, 1),
+    BITMAP(false, new ResourceMethod(BindingSet.BITMAP_FACTORY, "decodeResource", true, 1)),
+    BOOL("getBoolean", true),
+    COLOR(true, new ResourceMethod(BindingSet.CONTEXT_COMPAT, "getColor", false, 1),
         new ResourceMethod(null, "getColor", false, 23)),
-    COLOR_STATE_LIST(new ResourceMethod(BindingSet.CONTEXT_COMPAT, "getColorStateList", false, 1),
+    COLOR_STATE_LIST(false,
+        new ResourceMethod(BindingSet.CONTEXT_COMPAT, "getColorStateList", false, 1),
         new ResourceMethod(null, "getColorStateList", false, 23)),
-    DIMEN_AS_INT("getDimensionPixelSize"),
-    DIMEN_AS_FLOAT("getDimension"),
-    FLOAT(new ResourceMethod(BindingSet.UTILS, "getFloat", false, 1)),
-    INT("getInteger"),
-    INT_ARRAY("getIntArray"),
-    STRING("getString"),
-    STRING_ARRAY("getStringArray"),
-    TEXT_ARRAY("getTextArray"),
-    TYPED_ARRAY("obtainTypedArray");
+    DIMEN_AS_INT("getDimensionPixelSize", true),
+    DIMEN_AS_FLOAT("getDimension", true),
+    FLOAT(true, new ResourceMethod(BindingSet.UTILS, "getFloat", false, 1)),
+    INT("getInteger", true),
+    INT_ARRAY("getIntArray", false),
+    STRING("getString", true),
+    STRING_ARRAY("getStringArray", false),
+    TEXT_ARRAY("getTextArray", false),
+    TYPED_ARRAY("obtainTypedArray", false);
 
     private final List<ResourceMethod> methods;
+    /** True if {@code ResourceCache} has a method of the same name which reads through to this. */
+    final boolean cacheable;
 
-    Type(ResourceMethod... methods) {
+    Type(boolean cacheable, ResourceMethod... methods) {
       List<ResourceMethod> methodList = new ArrayList<>(methods.length);
       Collections.addAll(methodList, methods);
       Collections.sort(methodList);
       Collections.reverse(methodList);
       this.methods = unmodifiableList(methodList);
+      this.cacheable = cacheable;
     }
 
-    Type(String methodName) {
+    Type(String methodName, boolean cacheable) {
       methods = singletonList(new ResourceMethod(null, methodName, true, 1));
+      this.cacheable = cacheable;
     }
 
     ResourceMethod methodForSdk(int sdk) {
@@ -71,11 +77,13 @@ final class FieldResourceBinding implements ResourceBinding {
 
   private final Id id;
   private final String name;
+  private final TypeName fieldType;
   private final Type type;
 
-  FieldResourceBinding(Id id, String name, Type type) {
+  FieldResourceBinding(Id id, String name, TypeName fieldType, Type type) {
     this.id = id;
     this.name = name;
+    this.fieldType = fieldType;
     this.type = type;
   }
 
@@ -83,23 +91,39 @@ final class FieldResourceBinding implements ResourceBinding {
     return id;
   }
 
-  @Override public boolean requiresResources(int sdk) {
+  @Override public String name() {
+    return name;
+  }
+
+  @Override public TypeName type() {
+    return fieldType;
+  }
+
+  @Override public boolean requiresResources(int sdk, boolean cacheResources) {
+    if (cacheResources && type.cacheable) {
+      return false;
+    }
     return type.methodForSdk(sdk).requiresResources;
   }
 
-  @Override public CodeBlock render(int sdk) {
+  @Override public CodeBlock render(int sdk, boolean cacheResources) {
+    return CodeBlock.of("target.$L = $L", name, renderValue(sdk, cacheResources));
+  }
+
+  @Override public CodeBlock renderValue(int sdk, boolean cacheResources) {
     ResourceMethod method = type.methodForSdk(sdk);
+    if (cacheResources && type.cacheable) {
+      return CodeBlock.of("$T.$L(context, $L)", BindingSet.RESOURCE_CACHE, method.name, id.code);
+    }
     if (method.typeName == null) {
       if (method.requiresResources) {
-        return CodeBlock.of("target.$L = res.$L($L)", name, method.name, id.code);
+        return CodeBlock.of("res.$L($L)", method.name, id.code);
       }
-      return CodeBlock.of("target.$L = context.$L($L)", name, method.name, id.code);
+      return CodeBlock.of("context.$L($L)", method.name, id.code);
     }
     if (method.requiresResources) {
-      return CodeBlock.of("target.$L = $T.$L(res, $L)", name, method.typeName, method.name,
-          id.code);
+      return CodeBlock.of("$T.$L(res, $L)", method.typeName, method.name, id.code);
     }
-    return CodeBlock.of("target.$L = $T.$L(context, $L)", name, method.typeName, method.name,
-        id.code);
+    return CodeBlock.of("$T.$L(context, $L)", method.typeName, method.name, id.code);
   }
 }
@@ -1,5 +1,6 @@
 package butterknife.compiler;
 
+import butterknife.OnClick.Debounce;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -8,11 +9,14 @@ final class MethodViewBinding implements ViewBinding {
   private final String name;
   private final List<Parameter> parameters;
   private final boolean required;
+  private final Debounce debounce;
 
-  MethodViewBinding(String name, List<Parameter> parameters, boolean required) {
+  MethodViewBinding(String name, List<Parameter> parameters, boolean required,
+      Debounce debounce) {
     this.name = name;
     this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
     this.required = required;
+    this.debounce = debounce;
   }
 
   public String getName() {
@@ -30,4 +34,9 @@ final class MethodViewBinding implements ViewBinding {
   public boolean isRequired() {
     return required;
   }
+
+  /** The debounce scope of a click binding, or null for other listeners. */
+  public Debounce getDebounce() {
+    return debounce;
+  }
 }
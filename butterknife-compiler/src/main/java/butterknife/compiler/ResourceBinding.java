@@ -1,12 +1,29 @@
 package butterknife.compiler;
 
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
 
 interface ResourceBinding {
   Id id();
 
+  /** Name of the bound field. */
+  String name();
+
+  /** Type of the bound field. */
+  TypeName type();
+
   /** True if the code for this binding requires a 'res' variable for {@code Resources} access. */
-  boolean requiresResources(int sdk);
+  boolean requiresResources(int sdk, boolean cacheResources);
+
+  /**
+   * Renders the statement which binds this resource. When {@code cacheResources} is true values
+   * should be read through {@code ResourceCache} where it supports them.
+   */
+  CodeBlock render(int sdk, boolean cacheResources);
 
-  CodeBlock render(int sdk);
+  /**
+   * Renders an expression which loads this resource without assigning it, for bindings prepared
+   * off the main thread.
+   */
+  CodeBlock renderValue(int sdk, boolean cacheResources);
 }
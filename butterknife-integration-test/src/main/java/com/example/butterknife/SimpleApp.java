@@ -7,5 +7,6 @@ public class SimpleApp extends Application {
   @Override public void onCreate() {
     super.onCreate();
     ButterKnife.setDebug(BuildConfig.DEBUG);
+    ButterKnife.addIndex(new SimpleBindingIndex());
   }
 }
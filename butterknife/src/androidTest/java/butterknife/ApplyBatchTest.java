@@ -0,0 +1,131 @@
+package butterknife;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.support.test.InstrumentationRegistry;
+import android.view.View;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+
+public final class ApplyBatchTest {
+  private final Context context = InstrumentationRegistry.getContext();
+  private final List<String> calls = new ArrayList<>();
+  private final ButterKnife.Setter<View, Integer> visibility =
+      new ButterKnife.Setter<View, Integer>() {
+        @Override public void set(@NonNull View view, Integer value, int index) {
+          view.setVisibility(value);
+          calls.add("visibility " + index + "=" + value);
+        }
+      };
+  private final ButterKnife.Action<View> disable = new ButterKnife.Action<View>() {
+    @Override public void apply(@NonNull View view, int index) {
+      view.setEnabled(false);
+      calls.add("disable " + index);
+    }
+  };
+
+  @Test public void lastValuePerViewIsAppliedOnce() {
+    final List<View> views = asList(new View(context), new View(context));
+    InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+      @Override public void run() {
+        ApplyBatch batch = new ApplyBatch();
+        batch.apply(views, visibility, View.GONE);
+        batch.apply(views, disable);
+        batch.apply(views.get(1), visibility, View.INVISIBLE);
+        batch.apply(views, disable);
+        assertThat(calls).isEmpty();
+
+        batch.flush();
+      }
+    });
+
+    assertThat(calls).containsExactly(
+        "visibility 0=8",
+        "visibility 0=4",
+        "disable 0",
+        "disable 1").inOrder();
+    assertThat(views.get(0).getVisibility()).isEqualTo(View.GONE);
+    assertThat(views.get(1).getVisibility()).isEqualTo(View.INVISIBLE);
+    assertThat(views.get(1).isEnabled()).isFalse();
+  }
+
+  @Test public void lastApplyProvidesValueAndIndex() {
+    final List<View> views = asList(new View(context), new View(context));
+    InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+      @Override public void run() {
+        ApplyBatch batch = new ApplyBatch();
+        batch.apply(views, visibility, View.GONE);
+        // Applied alone, the view is at index 0 of its own apply.
+        batch.apply(views.get(1), visibility, View.INVISIBLE);
+        batch.apply(views.get(0), disable);
+        batch.apply(views, disable);
+        batch.flush();
+      }
+    });
+
+    assertThat(calls).containsExactly(
+        "visibility 0=8",
+        "visibility 0=4",
+        "disable 0",
+        "disable 1").inOrder();
+  }
+
+  @Test public void operationsAreReusedAcrossFlushes() {
+    final View view = new View(context);
+    InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+      @Override public void run() {
+        ApplyBatch batch = new ApplyBatch();
+        batch.apply(view, visibility, View.GONE);
+        batch.flush();
+        batch.apply(view, visibility, View.VISIBLE);
+        batch.cancel();
+        batch.apply(view, visibility, View.INVISIBLE);
+        batch.flush();
+      }
+    });
+
+    assertThat(calls).containsExactly("visibility 0=8", "visibility 0=4").inOrder();
+    assertThat(view.getVisibility()).isEqualTo(View.INVISIBLE);
+  }
+
+  @Test public void batchIsAppliedInNextFrame() throws InterruptedException {
+    final View[] views = new View[] { new View(context), new View(context) };
+    final CountDownLatch applied = new CountDownLatch(1);
+    InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+      @Override public void run() {
+        ApplyBatch batch = new ApplyBatch();
+        batch.apply(views, visibility, View.GONE);
+        batch.apply(views[0], new ButterKnife.Action<View>() {
+          @Override public void apply(@NonNull View view, int index) {
+            applied.countDown();
+          }
+        });
+      }
+    });
+
+    assertThat(applied.await(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(views[0].getVisibility()).isEqualTo(View.GONE);
+    assertThat(views[1].getVisibility()).isEqualTo(View.GONE);
+  }
+
+  @Test public void cancelDiscardsPending() {
+    final View view = new View(context);
+    InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+      @Override public void run() {
+        ApplyBatch batch = new ApplyBatch();
+        batch.apply(view, disable);
+        batch.cancel();
+        batch.flush();
+      }
+    });
+
+    assertThat(calls).isEmpty();
+    assertThat(view.isEnabled()).isTrue();
+  }
+}
@@ -0,0 +1,107 @@
+package butterknife;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.support.test.InstrumentationRegistry;
+import android.view.View;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+public final class BindingPoolTest {
+  private final Context context = InstrumentationRegistry.getContext();
+  private final BindingPool pool = new BindingPool();
+
+  @Before @After public void reset() {
+    ButterKnife.BINDINGS.clear();
+    ButterKnife.INDEXES.clear();
+  }
+
+  @Before public void addIndex() {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        if (target == RebindableTarget.class) {
+          return RebindableTarget.FACTORY;
+        }
+        if (target == PlainTarget.class) {
+          return PlainTarget.FACTORY;
+        }
+        return null;
+      }
+    });
+  }
+
+  @Test public void rebindableBindingIsReused() {
+    RebindableTarget target = new RebindableTarget();
+    View first = new View(context);
+    View second = new View(context);
+
+    Unbinder binding = pool.bind(target, first);
+    assertThat(pool.bind(target, second)).isSameAs(binding);
+    assertThat(target.sources).containsExactly(first, second).inOrder();
+    assertThat(target.unbound).isFalse();
+  }
+
+  @Test public void otherBindingIsReplaced() {
+    PlainTarget target = new PlainTarget();
+
+    Unbinder binding = pool.bind(target, new View(context));
+    Unbinder replacement = pool.bind(target, new View(context));
+    assertThat(replacement).isNotSameAs(binding);
+    assertThat(target.unbindCount).isEqualTo(1);
+  }
+
+  @Test public void releaseUnbinds() {
+    RebindableTarget target = new RebindableTarget();
+    pool.bind(target, new View(context));
+
+    pool.release(target);
+    assertThat(target.unbound).isTrue();
+
+    // A released target gets a new binding.
+    target.unbound = false;
+    pool.bind(target, new View(context));
+    pool.clear();
+    assertThat(target.unbound).isTrue();
+  }
+
+  static final class RebindableTarget {
+    static final BindingFactory<RebindableTarget> FACTORY =
+        new BindingFactory<RebindableTarget>() {
+          @Override public Unbinder create(@NonNull final RebindableTarget target,
+              @NonNull View source) {
+            target.sources.add(source);
+            return new Rebinder() {
+              @Override public void rebind(@NonNull View source) {
+                target.sources.add(source);
+              }
+
+              @Override public void unbind() {
+                target.unbound = true;
+              }
+            };
+          }
+        };
+
+    final List<View> sources = new ArrayList<>();
+    boolean unbound;
+  }
+
+  static final class PlainTarget {
+    static final BindingFactory<PlainTarget> FACTORY = new BindingFactory<PlainTarget>() {
+      @Override public Unbinder create(@NonNull final PlainTarget target, @NonNull View source) {
+        return new Unbinder() {
+          @Override public void unbind() {
+            target.unbindCount++;
+          }
+        };
+      }
+    };
+
+    int unbindCount;
+  }
+}
@@ -5,16 +5,26 @@ import android.content.Context;
 import android.support.annotation.NonNull;
 import android.support.test.InstrumentationRegistry;
 import android.support.test.filters.SdkSuppress;
+import android.util.FloatProperty;
+import android.util.IntProperty;
 import android.util.Property;
 import android.view.View;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static android.os.Build.VERSION_CODES.ICE_CREAM_SANDWICH;
+import static android.os.Build.VERSION_CODES.N;
 import static com.google.common.truth.Truth.assertThat;
 import static java.util.Arrays.asList;
+import static org.junit.Assert.fail;
 
 @TargetApi(ICE_CREAM_SANDWICH)
 @SdkSuppress(minSdkVersion = ICE_CREAM_SANDWICH)
@@ -35,6 +45,24 @@ public class ButterKnifeTest {
           view.setEnabled(value);
         }
       };
+  private static final ButterKnife.BooleanSetter<View> BOOLEAN_SETTER_ENABLED =
+      new ButterKnife.BooleanSetter<View>() {
+        @Override public void set(@NonNull View view, boolean value, int index) {
+          view.setEnabled(value);
+        }
+      };
+  private static final ButterKnife.FloatSetter<View> FLOAT_SETTER_ALPHA =
+      new ButterKnife.FloatSetter<View>() {
+        @Override public void set(@NonNull View view, float value, int index) {
+          view.setAlpha(value);
+        }
+      };
+  private static final ButterKnife.IntSetter<View> INT_SETTER_VISIBILITY =
+      new ButterKnife.IntSetter<View>() {
+        @Override public void set(@NonNull View view, int value, int index) {
+          view.setVisibility(value);
+        }
+      };
   private static final ButterKnife.Action<View> ACTION_DISABLE = new ButterKnife.Action<View>() {
     @Override public void apply(@NonNull View view, int index) {
       view.setEnabled(false);
@@ -46,11 +74,16 @@ public class ButterKnifeTest {
     }
   };
 
+  private static final String IGNORED_PREFIX = "butterknife.ButterKnifeTest$Ignored";
+
   private final Context context = InstrumentationRegistry.getContext();
 
-  @Before @After // Clear out cache of binders before and after each test.
+  @Before @After // Clear out cache of binders and lookup configuration before and after each test.
   public void resetViewsCache() {
     ButterKnife.BINDINGS.clear();
+    ButterKnife.INDEXES.clear();
+    ButterKnife.IGNORED_PACKAGE_PREFIXES.remove(IGNORED_PREFIX);
+    ButterKnife.setEventListener(null);
   }
 
   @Test public void propertyAppliedToView() {
@@ -229,6 +262,145 @@ public class ButterKnifeTest {
     assertThat(view3.isEnabled()).isFalse();
   }
 
+  @Test public void booleanSetterAppliedToView() {
+    View view = new View(context);
+    assertThat(view.isEnabled()).isTrue();
+
+    ButterKnife.apply(view, BOOLEAN_SETTER_ENABLED, false);
+
+    assertThat(view.isEnabled()).isFalse();
+  }
+
+  @Test public void floatSetterAppliedToEveryViewInList() {
+    View view1 = new View(context);
+    View view2 = new View(context);
+    assertThat(view1.getAlpha()).isEqualTo(1f);
+    assertThat(view2.getAlpha()).isEqualTo(1f);
+
+    List<View> views = asList(view1, view2);
+    ButterKnife.apply(views, FLOAT_SETTER_ALPHA, 0.5f);
+
+    assertThat(view1.getAlpha()).isEqualTo(0.5f);
+    assertThat(view2.getAlpha()).isEqualTo(0.5f);
+  }
+
+  @Test public void intSetterAppliedToEveryViewInArray() {
+    View view1 = new View(context);
+    View view2 = new View(context);
+    assertThat(view1.getVisibility()).isEqualTo(View.VISIBLE);
+    assertThat(view2.getVisibility()).isEqualTo(View.VISIBLE);
+
+    View[] views = new View[] { view1, view2 };
+    ButterKnife.apply(views, INT_SETTER_VISIBILITY, View.GONE);
+
+    assertThat(view1.getVisibility()).isEqualTo(View.GONE);
+    assertThat(view2.getVisibility()).isEqualTo(View.GONE);
+  }
+
+  @TargetApi(N)
+  @SdkSuppress(minSdkVersion = N)
+  @Test public void floatPropertyAppliedToEveryViewInList() {
+    FloatProperty<View> translationY = new FloatProperty<View>("translationY") {
+      @Override public void setValue(View view, float value) {
+        view.setTranslationY(value);
+      }
+
+      @Override public Float get(View view) {
+        return view.getTranslationY();
+      }
+    };
+    View view1 = new View(context);
+    View view2 = new View(context);
+
+    List<View> views = asList(view1, view2);
+    ButterKnife.apply(views, translationY, 10f);
+
+    assertThat(view1.getTranslationY()).isEqualTo(10f);
+    assertThat(view2.getTranslationY()).isEqualTo(10f);
+  }
+
+  @TargetApi(N)
+  @SdkSuppress(minSdkVersion = N)
+  @Test public void intPropertyAppliedToView() {
+    IntProperty<View> visibility = new IntProperty<View>("visibility") {
+      @Override public void setValue(View view, int value) {
+        view.setVisibility(value);
+      }
+
+      @Override public Integer get(View view) {
+        return view.getVisibility();
+      }
+    };
+    View view = new View(context);
+
+    ButterKnife.apply(view, visibility, View.INVISIBLE);
+
+    assertThat(view.getVisibility()).isEqualTo(View.INVISIBLE);
+  }
+
+  @Test public void memoizedSetterSkipsUnchangedValues() {
+    final List<String> calls = new ArrayList<>();
+    ButterKnife.Setter<View, String> setter = ButterKnife.memoize(
+        new ButterKnife.Setter<View, String>() {
+          @Override public void set(@NonNull View view, String value, int index) {
+            calls.add(index + "=" + value);
+          }
+        });
+    List<View> views = asList(new View(context), new View(context));
+
+    ButterKnife.apply(views, setter, "a");
+    ButterKnife.apply(views, setter, "a");
+    ButterKnife.apply(views.get(1), setter, null);
+    ButterKnife.apply(views.get(1), setter, null);
+    ButterKnife.apply(views, setter, "a");
+
+    assertThat(calls).containsExactly("0=a", "1=a", "0=null", "1=a").inOrder();
+  }
+
+  @Test public void memoizedIntSetterSkipsUnchangedValues() {
+    final List<String> calls = new ArrayList<>();
+    ButterKnife.IntSetter<View> setter = ButterKnife.memoize(new ButterKnife.IntSetter<View>() {
+      @Override public void set(@NonNull View view, int value, int index) {
+        view.setVisibility(value);
+        calls.add(index + "=" + value);
+      }
+    });
+    View[] views = new View[] { new View(context), new View(context) };
+
+    ButterKnife.apply(views, setter, View.GONE);
+    ButterKnife.apply(views, setter, View.GONE);
+    ButterKnife.apply(views[0], setter, View.VISIBLE);
+    ButterKnife.apply(views, setter, View.VISIBLE);
+
+    assertThat(calls).containsExactly("0=8", "1=8", "0=0", "1=0").inOrder();
+    assertThat(views[1].getVisibility()).isEqualTo(View.VISIBLE);
+  }
+
+  @Test public void memoizedSettersOfOneViewAreIndependent() {
+    final List<String> calls = new ArrayList<>();
+    ButterKnife.FloatSetter<View> alpha = ButterKnife.memoize(new ButterKnife.FloatSetter<View>() {
+      @Override public void set(@NonNull View view, float value, int index) {
+        calls.add("alpha=" + value);
+      }
+    });
+    ButterKnife.FloatSetter<View> scale = ButterKnife.memoize(new ButterKnife.FloatSetter<View>() {
+      @Override public void set(@NonNull View view, float value, int index) {
+        calls.add("scale=" + value);
+      }
+    });
+    View view = new View(context);
+
+    ButterKnife.apply(view, alpha, 1f);
+    ButterKnife.apply(view, scale, 1f);
+    ButterKnife.apply(view, alpha, 1f);
+    ButterKnife.apply(view, scale, 2f);
+    ButterKnife.apply(view, alpha, Float.NaN);
+    ButterKnife.apply(view, alpha, Float.NaN);
+
+    assertThat(calls).containsExactly("alpha=1.0", "scale=1.0", "scale=2.0", "alpha=NaN")
+        .inOrder();
+  }
+
   @Test public void zeroBindingsBindDoesNotThrowException() {
     class Example {
     }
@@ -240,8 +412,411 @@ public class ButterKnifeTest {
   @Test public void bindingKnownPackagesIsNoOp() {
     View view = new View(context);
     ButterKnife.bind(view);
-    assertThat(ButterKnife.BINDINGS).isEmpty();
+    assertThat(ButterKnife.BINDINGS.snapshot()).isEmpty();
     ButterKnife.bind(new Object(), view);
-    assertThat(ButterKnife.BINDINGS).isEmpty();
+    assertThat(ButterKnife.BINDINGS.snapshot()).isEmpty();
+  }
+
+  @Test public void indexedBindingIsUsedBeforeReflection() {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == IndexedTarget.class ? IndexedTargetBinding.FACTORY : null;
+      }
+    });
+
+    Unbinder unbinder = ButterKnife.bind(new IndexedTarget(), new View(context));
+    assertThat(unbinder).isInstanceOf(IndexedTargetBinding.class);
+  }
+
+  @Test public void indexedBindingIsUsedForSubclass() {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == IndexedTarget.class ? IndexedTargetBinding.FACTORY : null;
+      }
+    });
+
+    Unbinder unbinder = ButterKnife.bind(new IndexedTarget() {}, new View(context));
+    assertThat(unbinder).isInstanceOf(IndexedTargetBinding.class);
+  }
+
+  @Test public void unboundClassIsOnlyLookedUpOnce() {
+    CountingIndex index = new CountingIndex();
+    ButterKnife.addIndex(index);
+
+    Unbound target = new Unbound();
+    assertThat(ButterKnife.bind(target, (View) null)).isSameAs(Unbinder.EMPTY);
+    assertThat(ButterKnife.bind(target, (View) null)).isSameAs(Unbinder.EMPTY);
+
+    assertThat(index.lookups).containsExactly(Unbound.class);
+    assertThat(ButterKnife.BINDINGS.snapshot())
+        .containsEntry(Unbound.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void unboundClassesInHierarchyAreEachLookedUpOnce() {
+    CountingIndex index = new CountingIndex();
+    ButterKnife.addIndex(index);
+
+    ButterKnife.bind(new UnboundChild(), (View) null);
+    ButterKnife.bind(new UnboundChild(), (View) null);
+    ButterKnife.bind(new Unbound(), (View) null);
+
+    assertThat(index.lookups).containsExactly(UnboundChild.class, Unbound.class).inOrder();
+    assertThat(ButterKnife.BINDINGS.snapshot())
+        .containsEntry(UnboundChild.class, ButterKnife.NO_BINDING);
+    assertThat(ButterKnife.BINDINGS.snapshot())
+        .containsEntry(Unbound.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void ignoredPackagePrefixStopsLookup() {
+    CountingIndex index = new CountingIndex();
+    ButterKnife.addIndex(index);
+    ButterKnife.addIgnoredPackagePrefix(IGNORED_PREFIX);
+
+    assertThat(ButterKnife.bind(new ChildOfIgnored(), (View) null)).isSameAs(Unbinder.EMPTY);
+    assertThat(ButterKnife.bind(new ChildOfIgnored(), (View) null)).isSameAs(Unbinder.EMPTY);
+
+    assertThat(index.lookups).containsExactly(ChildOfIgnored.class);
+    assertThat(ButterKnife.BINDINGS.snapshot()).doesNotContainKey(IgnoredBase.class);
+  }
+
+  @Test public void frameworkPackagesAreIgnoredByDefault() {
+    CountingIndex index = new CountingIndex();
+    ButterKnife.addIndex(index);
+
+    ButterKnife.bind(new Object(), (View) null);
+    ButterKnife.bind(new ArrayList<String>(), (View) null);
+
+    assertThat(index.lookups).isEmpty();
+  }
+
+  @Test public void preloadBindingOnBackgroundThread() throws InterruptedException {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == IndexedTarget.class ? IndexedTargetBinding.FACTORY : null;
+      }
+    });
+
+    Thread thread = new Thread(new Runnable() {
+      @Override public void run() {
+        ButterKnife.preloadBinding(IndexedTarget.class);
+      }
+    });
+    thread.start();
+    thread.join();
+
+    assertThat(ButterKnife.BINDINGS.snapshot()).containsEntry(IndexedTarget.class,
+        IndexedTargetBinding.FACTORY);
+  }
+
+  @Test public void concurrentLookupsResolveSameBinding() throws InterruptedException {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == IndexedTarget.class ? IndexedTargetBinding.FACTORY : null;
+      }
+    });
+
+    int threadCount = 8;
+    final CyclicBarrier barrier = new CyclicBarrier(threadCount);
+    final CountDownLatch done = new CountDownLatch(threadCount);
+    final AtomicReferenceArray<Unbinder> unbinders = new AtomicReferenceArray<>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      final int index = i;
+      new Thread(new Runnable() {
+        @Override public void run() {
+          try {
+            barrier.await();
+            unbinders.set(index, ButterKnife.bind(new IndexedTarget() {}, (View) null));
+          } catch (Exception e) {
+            throw new AssertionError(e);
+          } finally {
+            done.countDown();
+          }
+        }
+      }).start();
+    }
+    done.await();
+
+    for (int i = 0; i < threadCount; i++) {
+      assertThat(unbinders.get(i)).isInstanceOf(IndexedTargetBinding.class);
+    }
+  }
+
+  @Test public void prewarmLoadsManifestBindings() {
+    ManifestIndex index = new ManifestIndex();
+    ButterKnife.addIndex(index);
+    RecordingExecutor executor = new RecordingExecutor();
+
+    ButterKnife.prewarm(executor, Unbound.class);
+    assertThat(ButterKnife.BINDINGS.snapshot()).isEmpty();
+
+    executor.runAll();
+    assertThat(index.lookups).containsExactly(Unbound.class, IndexedTarget.class).inOrder();
+    assertThat(ButterKnife.BINDINGS.snapshot()).containsEntry(IndexedTarget.class,
+        IndexedTargetBinding.FACTORY);
+    assertThat(ButterKnife.BINDINGS.snapshot())
+        .containsEntry(Unbound.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void bindResourcesOnBackgroundThread() throws InterruptedException {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == ResourceTarget.class ? ResourceTargetBinding.FACTORY : null;
+      }
+    });
+
+    final ResourceTarget target = new ResourceTarget();
+    Thread thread = new Thread(new Runnable() {
+      @Override public void run() {
+        ButterKnife.bindResources(target, context);
+      }
+    });
+    thread.start();
+    thread.join();
+
+    assertThat(target.context).isSameAs(context);
+  }
+
+  @Test public void bindResourcesRejectsViewBindings() {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == IndexedTarget.class ? IndexedTargetBinding.FACTORY : null;
+      }
+    });
+
+    try {
+      ButterKnife.bindResources(new IndexedTarget(), context);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage(IndexedTarget.class.getName()
+          + " binds views or listeners and must be bound with a view.");
+    }
+  }
+
+  @Test public void evictReleasesBindingsOfLoader() {
+    // Proxy classes are defined by the loader they are requested from.
+    ClassLoader loader = new ClassLoader(ButterKnifeTest.class.getClassLoader()) {};
+    final Class<?> foreignTarget = Proxy.getProxyClass(loader, Runnable.class);
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == IndexedTarget.class || target == foreignTarget
+            ? IndexedTargetBinding.FACTORY
+            : null;
+      }
+    });
+    ButterKnife.preloadBinding(IndexedTarget.class);
+    ButterKnife.preloadBinding(foreignTarget);
+    assertThat(ButterKnife.BINDINGS.snapshot()).containsKey(foreignTarget);
+
+    ButterKnife.evict(loader);
+
+    assertThat(ButterKnife.BINDINGS.snapshot()).doesNotContainKey(foreignTarget);
+    assertThat(ButterKnife.BINDINGS.snapshot()).containsEntry(IndexedTarget.class,
+        IndexedTargetBinding.FACTORY);
+    assertThat(ButterKnife.INDEXES).hasSize(1);
+  }
+
+  @Test public void evictRejectsLoaderOfButterKnife() {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == IndexedTarget.class ? IndexedTargetBinding.FACTORY : null;
+      }
+    });
+    ButterKnife.preloadBinding(IndexedTarget.class);
+    try {
+      ButterKnife.evict(ButterKnife.class.getClassLoader());
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Cannot evict the class loader of Butter Knife.");
+    }
+    assertThat(ButterKnife.BINDINGS.snapshot()).containsKey(IndexedTarget.class);
+    assertThat(ButterKnife.INDEXES).hasSize(1);
+  }
+
+  @Test public void eventListenerReceivesBindingLifecycle() {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == IndexedTarget.class ? IndexedTargetBinding.FACTORY : null;
+      }
+    });
+    RecordingEventListener listener = new RecordingEventListener();
+    ButterKnife.setEventListener(listener);
+
+    View view = new View(context);
+    ButterKnife.bind(new IndexedTarget(), view).unbind();
+    ButterKnife.bind(new IndexedTarget(), view);
+
+    assertThat(listener.events).containsExactly(
+        "lookupStart IndexedTarget",
+        "cacheMiss IndexedTarget",
+        "lookupEnd IndexedTarget true",
+        "bindingCreated IndexedTarget",
+        "unbound IndexedTarget",
+        "lookupStart IndexedTarget",
+        "cacheHit IndexedTarget true",
+        "lookupEnd IndexedTarget true",
+        "bindingCreated IndexedTarget").inOrder();
+  }
+
+  @Test public void eventListenerReceivesReflectionFallback() {
+    RecordingEventListener listener = new RecordingEventListener();
+    ButterKnife.setEventListener(listener);
+
+    ButterKnife.preloadBinding(UnboundChild.class);
+
+    assertThat(listener.events).containsExactly(
+        "lookupStart UnboundChild",
+        "cacheMiss UnboundChild",
+        "reflectionFallback UnboundChild false",
+        "cacheMiss Unbound",
+        "reflectionFallback Unbound false",
+        "lookupEnd UnboundChild false").inOrder();
+  }
+
+  @Test public void eventListenerKeepsRebinder() {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+        return target == IndexedTarget.class ? RebindableTargetBinding.FACTORY : null;
+      }
+    });
+    ButterKnife.setEventListener(new RecordingEventListener());
+
+    Unbinder unbinder = ButterKnife.bind(new IndexedTarget(), new View(context));
+
+    assertThat(unbinder).isInstanceOf(Rebinder.class);
+  }
+
+  static final class RecordingExecutor implements Executor {
+    final List<Runnable> tasks = new ArrayList<>();
+
+    @Override public void execute(@NonNull Runnable command) {
+      tasks.add(command);
+    }
+
+    void runAll() {
+      for (Runnable task : tasks) {
+        task.run();
+      }
+      tasks.clear();
+    }
+  }
+
+  static final class ManifestIndex implements BindingIndex, BindingManifest {
+    final List<Class<?>> lookups = new ArrayList<>();
+
+    @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+      lookups.add(target);
+      return target == IndexedTarget.class ? IndexedTargetBinding.FACTORY : null;
+    }
+
+    @NonNull @Override public String[] getTargetClassNames() {
+      return new String[] {
+          IndexedTarget.class.getName(),
+          "butterknife.ButterKnifeTest$Missing"
+      };
+    }
+  }
+
+  static final class RecordingEventListener extends ButterKnife.EventListener {
+    final List<String> events = new ArrayList<>();
+
+    @Override public void lookupStart(@NonNull Class<?> targetClass, long startNanos) {
+      events.add("lookupStart " + targetClass.getSimpleName());
+    }
+
+    @Override public void cacheHit(@NonNull Class<?> targetClass, @NonNull Class<?> cls,
+        boolean hasBinding, long elapsedNanos) {
+      events.add("cacheHit " + cls.getSimpleName() + " " + hasBinding);
+    }
+
+    @Override public void cacheMiss(@NonNull Class<?> targetClass, @NonNull Class<?> cls,
+        long elapsedNanos) {
+      events.add("cacheMiss " + cls.getSimpleName());
+    }
+
+    @Override public void reflectionFallback(@NonNull Class<?> targetClass, @NonNull Class<?> cls,
+        boolean found, long durationNanos) {
+      events.add("reflectionFallback " + cls.getSimpleName() + " " + found);
+    }
+
+    @Override public void lookupEnd(@NonNull Class<?> targetClass, boolean hasBinding,
+        long durationNanos) {
+      events.add("lookupEnd " + targetClass.getSimpleName() + " " + hasBinding);
+    }
+
+    @Override public void bindingCreated(@NonNull Class<?> targetClass, long durationNanos) {
+      events.add("bindingCreated " + targetClass.getSimpleName());
+    }
+
+    @Override public void unbound(@NonNull Class<?> targetClass, long durationNanos) {
+      events.add("unbound " + targetClass.getSimpleName());
+    }
+  }
+
+  static final class CountingIndex implements BindingIndex {
+    final List<Class<?>> lookups = new ArrayList<>();
+
+    @Override public BindingFactory<?> getBindingFactory(@NonNull Class<?> target) {
+      lookups.add(target);
+      return null;
+    }
+  }
+
+  static class Unbound {
+  }
+
+  static class UnboundChild extends Unbound {
+  }
+
+  static class IgnoredBase {
+  }
+
+  static class ChildOfIgnored extends IgnoredBase {
+  }
+
+  public static class IndexedTarget {
+  }
+
+  /** Deliberately not named '_ViewBinding' so it can only be found through an index. */
+  public static final class IndexedTargetBinding implements Unbinder {
+    static final BindingFactory<IndexedTarget> FACTORY = new BindingFactory<IndexedTarget>() {
+      @Override public Unbinder create(@NonNull IndexedTarget target, @NonNull View source) {
+        return new IndexedTargetBinding();
+      }
+    };
+
+    @Override public void unbind() {
+    }
+  }
+
+  public static class ResourceTarget {
+    Context context;
+  }
+
+  public static final class ResourceTargetBinding implements Unbinder {
+    static final BindingFactory<ResourceTarget> FACTORY =
+        new ResourceBindingFactory<ResourceTarget>() {
+          @Override public Unbinder create(@NonNull ResourceTarget target,
+              @NonNull Context context) {
+            target.context = context;
+            return new ResourceTargetBinding();
+          }
+        };
+
+    @Override public void unbind() {
+    }
+  }
+
+  public static final class RebindableTargetBinding implements Rebinder {
+    static final BindingFactory<IndexedTarget> FACTORY = new BindingFactory<IndexedTarget>() {
+      @Override public Unbinder create(@NonNull IndexedTarget target, @NonNull View source) {
+        return new RebindableTargetBinding();
+      }
+    };
+
+    @Override public void rebind(@NonNull View source) {
+    }
+
+    @Override public void unbind() {
+    }
   }
 }
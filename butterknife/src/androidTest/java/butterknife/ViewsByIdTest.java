@@ -0,0 +1,63 @@
+package butterknife;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+public final class ViewsByIdTest {
+  @Test public void lookupById() {
+    ViewsById<String> views = ViewsById.of(new int[] { 0x7f0b0001, 0x7f0b0002, 0x7f0b0010 },
+        "one", "two", "three");
+
+    assertThat(views.size()).isEqualTo(3);
+    assertThat(views.get(0x7f0b0002)).isEqualTo("two");
+    assertThat(views.get(0x7f0b0010)).isEqualTo("three");
+    assertThat(views.get(0x7f0b0003)).isNull();
+    assertThat(views.containsId(0x7f0b0001)).isTrue();
+    assertThat(views.indexOfId(0x7f0b0010)).isEqualTo(2);
+    assertThat(views.indexOfId(0)).isEqualTo(-1);
+  }
+
+  @Test public void iterationFollowsIdOrder() {
+    int[] ids = new int[64];
+    String[] values = new String[64];
+    for (int i = 0; i < ids.length; i++) {
+      // Descending, densely packed IDs collide in low bits unless hashed.
+      ids[i] = 0x7f0b0000 + (ids.length - i) * 16;
+      values[i] = "view" + i;
+    }
+    ViewsById<String> views = ViewsById.of(ids, values);
+
+    List<String> iterated = new ArrayList<>();
+    for (String view : views) {
+      iterated.add(view);
+    }
+    assertThat(iterated).containsExactly((Object[]) values).inOrder();
+    for (int i = 0; i < ids.length; i++) {
+      assertThat(views.idAt(i)).isEqualTo(ids[i]);
+      assertThat(views.valueAt(i)).isEqualTo(values[i]);
+      assertThat(views.get(ids[i])).isEqualTo(values[i]);
+    }
+  }
+
+  @Test public void missingViewsAreSkipped() {
+    ViewsById<String> views = ViewsById.of(new int[] { 1, 2, 3 }, "one", null, "three");
+
+    assertThat(views.size()).isEqualTo(2);
+    assertThat(views.get(2)).isNull();
+    assertThat(views.get(3)).isEqualTo("three");
+    assertThat(views.idAt(1)).isEqualTo(3);
+  }
+
+  @Test public void idsAndViewsMustMatch() {
+    try {
+      ViewsById.of(new int[] { 1, 2 }, "one");
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Expected one view per ID but got 1 for 2 IDs.");
+    }
+  }
+}
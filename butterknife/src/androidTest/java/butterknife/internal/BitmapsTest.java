@@ -0,0 +1,88 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.os.Looper;
+import android.support.test.InstrumentationRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+public final class BitmapsTest {
+  private final Context context = InstrumentationRegistry.getContext();
+
+  @After public void tearDown() {
+    Bitmaps.clear();
+  }
+
+  @Test public void smallBitmapsAreNotFree() {
+    assertThat(Bitmaps.kilobytes(0)).isEqualTo(1);
+    assertThat(Bitmaps.kilobytes(1)).isEqualTo(1);
+    assertThat(Bitmaps.kilobytes(1024)).isEqualTo(1);
+    assertThat(Bitmaps.kilobytes(1025)).isEqualTo(2);
+  }
+
+  @Test public void cachedBitmapIsDeliveredInlineOnMainThread() {
+    final Bitmap expected = Bitmaps.decode(context, android.R.drawable.ic_menu_add, 0, 0);
+    final AtomicReference<Bitmap> delivered = new AtomicReference<>();
+    InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+      @Override public void run() {
+        Bitmaps.decodeAsync(context, android.R.drawable.ic_menu_add, 0, 0,
+            new Bitmaps.Callback() {
+              @Override public void onBitmapDecoded(Bitmap bitmap) {
+                delivered.set(bitmap);
+              }
+            });
+        assertThat(delivered.get()).isSameAs(expected);
+      }
+    });
+  }
+
+  @Test public void cachedBitmapIsPostedFromBackgroundThread() throws InterruptedException {
+    final Bitmap expected = Bitmaps.decode(context, android.R.drawable.ic_menu_add, 0, 0);
+    final AtomicReference<Bitmap> delivered = new AtomicReference<>();
+    final AtomicReference<Looper> looper = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    Bitmaps.decodeAsync(context, android.R.drawable.ic_menu_add, 0, 0, new Bitmaps.Callback() {
+      @Override public void onBitmapDecoded(Bitmap bitmap) {
+        delivered.set(bitmap);
+        looper.set(Looper.myLooper());
+        latch.countDown();
+      }
+    });
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(delivered.get()).isSameAs(expected);
+    assertThat(looper.get()).isSameAs(Looper.getMainLooper());
+  }
+
+  @Test public void cancelledRequestIsNotDelivered() throws InterruptedException {
+    final AtomicReference<Bitmap> delivered = new AtomicReference<>();
+    InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+      @Override public void run() {
+        Bitmaps.Request request = Bitmaps.decodeAsync(context, android.R.drawable.ic_menu_add,
+            0, 0, new Bitmaps.Callback() {
+              @Override public void onBitmapDecoded(Bitmap bitmap) {
+                delivered.set(bitmap);
+              }
+            });
+        request.cancel();
+      }
+    });
+
+    // Decodes run in order, so this one is delivered after the cancelled one would have been.
+    final CountDownLatch latch = new CountDownLatch(1);
+    Bitmaps.decodeAsync(context, android.R.drawable.ic_menu_delete, 0, 0, new Bitmaps.Callback() {
+      @Override public void onBitmapDecoded(Bitmap bitmap) {
+        latch.countDown();
+      }
+    });
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(delivered.get()).isNull();
+  }
+}
@@ -0,0 +1,87 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.support.test.InstrumentationRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+public final class ResourceCacheTest {
+  @After public void tearDown() {
+    ResourceCache.clear();
+  }
+
+  @Test public void valuesMatchResources() {
+    Context context = InstrumentationRegistry.getContext();
+    Resources res = context.getResources();
+    assertThat(ResourceCache.getString(context, android.R.string.ok))
+        .isEqualTo(res.getString(android.R.string.ok));
+    assertThat(ResourceCache.getInteger(context, android.R.integer.config_shortAnimTime))
+        .isEqualTo(res.getInteger(android.R.integer.config_shortAnimTime));
+    assertThat(ResourceCache.getDimensionPixelSize(context, android.R.dimen.app_icon_size))
+        .isEqualTo(res.getDimensionPixelSize(android.R.dimen.app_icon_size));
+    assertThat(ResourceCache.getDimension(context, android.R.dimen.app_icon_size))
+        .isEqualTo(res.getDimension(android.R.dimen.app_icon_size));
+  }
+
+  @Test public void contextsWithDifferentConfigurationsAreKeptApart() {
+    Context context = InstrumentationRegistry.getContext();
+    Configuration config = new Configuration(context.getResources().getConfiguration());
+    config.densityDpi *= 2;
+    Context dense = context.createConfigurationContext(config);
+    int size = context.getResources().getDimensionPixelSize(android.R.dimen.app_icon_size);
+    int denseSize = dense.getResources().getDimensionPixelSize(android.R.dimen.app_icon_size);
+    assertThat(denseSize).isNotEqualTo(size);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(ResourceCache.getDimensionPixelSize(context, android.R.dimen.app_icon_size))
+          .isEqualTo(size);
+      assertThat(ResourceCache.getDimensionPixelSize(dense, android.R.dimen.app_icon_size))
+          .isEqualTo(denseSize);
+    }
+  }
+
+  @Test public void concurrentReads() throws Exception {
+    final Context context = InstrumentationRegistry.getContext();
+    Resources res = context.getResources();
+    final int[] ids = { android.R.string.ok, android.R.string.cancel, android.R.string.yes };
+    final String[] expected = new String[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      expected[i] = res.getString(ids[i]);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Void>> results = new ArrayList<>();
+      for (int thread = 0; thread < 8; thread++) {
+        final int offset = thread;
+        results.add(executor.submit(new Callable<Void>() {
+          @Override public Void call() {
+            for (int i = 0; i < 500; i++) {
+              int index = (i + offset) % ids.length;
+              if (i % 100 == 0) {
+                ResourceCache.clear();
+              }
+              assertThat(ResourceCache.getString(context, ids[index])).isEqualTo(expected[index]);
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
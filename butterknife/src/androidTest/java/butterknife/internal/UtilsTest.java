@@ -1,8 +1,22 @@
 package butterknife.internal;
 
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.drawable.Drawable;
 import android.support.test.InstrumentationRegistry;
+import android.view.ContextThemeWrapper;
 import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Test;
 
 import static butterknife.internal.Utils.arrayOf;
@@ -31,6 +45,96 @@ public final class UtilsTest {
     assertThat(arrayOf(null, "One", "Two")).asList().containsExactly("One", "Two");
   }
 
+  @Test public void arrayOfWithoutNullReturnsSameArray() {
+    String[] views = { "One", "Two" };
+    assertThat(arrayOf(views)).isSameAs(views);
+  }
+
+  @Test public void listOfCompactsInPlace() {
+    List<String> views = listOf(null, "One", null, "Two");
+    assertThat(views).hasSize(2);
+    assertThat(views).containsExactly("One", "Two").inOrder();
+    try {
+      views.get(2);
+      fail();
+    } catch (IndexOutOfBoundsException ignored) {
+    }
+  }
+
+  @Test public void listOfRequiredWrapsAllViews() {
+    assertThat(Utils.listOfRequired("One", "Two")).containsExactly("One", "Two").inOrder();
+  }
+
+  @Test public void tintedDrawablesDoNotShareState() {
+    Context context =
+        new ContextThemeWrapper(InstrumentationRegistry.getContext(), android.R.style.Theme);
+    Drawable first = Utils.getTintedDrawable(context, android.R.drawable.ic_menu_add,
+        android.R.attr.colorForeground);
+    Drawable second = Utils.getTintedDrawable(context, android.R.drawable.ic_menu_add,
+        android.R.attr.colorForeground);
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getConstantState()).isNotSameAs(first.getConstantState());
+    assertThat(tintOf(second)).isEqualTo(tintOf(first));
+
+    // Changing one binding's drawable must not leak into the next.
+    second.setAlpha(0);
+    Drawable third = Utils.getTintedDrawable(context, android.R.drawable.ic_menu_add,
+        android.R.attr.colorForeground);
+    assertThat(tintOf(third)).isEqualTo(tintOf(first));
+  }
+
+  @Test public void firstTintedDrawableDoesNotShareCachedState() {
+    Context context =
+        new ContextThemeWrapper(InstrumentationRegistry.getContext(), android.R.style.Theme);
+    Drawable first = Utils.getTintedDrawable(context, android.R.drawable.ic_menu_add,
+        android.R.attr.colorForeground);
+    int tint = tintOf(first);
+
+    // The first drawable for a theme, drawable and color is the one whose state is cached.
+    first.setAlpha(0);
+    Drawable second = Utils.getTintedDrawable(context, android.R.drawable.ic_menu_add,
+        android.R.attr.colorForeground);
+    assertThat(tintOf(second)).isEqualTo(tint);
+  }
+
+  @Test public void tintedDrawablesResolveConcurrently() throws Exception {
+    final Context context =
+        new ContextThemeWrapper(InstrumentationRegistry.getContext(), android.R.style.Theme);
+    // Each attribute resolves to a different color so a value leaked between threads would tint
+    // with the wrong color.
+    final int[] attrs = { android.R.attr.colorForeground, android.R.attr.colorBackground };
+    final int[] expected = new int[attrs.length];
+    for (int i = 0; i < attrs.length; i++) {
+      expected[i] =
+          tintOf(Utils.getTintedDrawable(context, android.R.drawable.ic_menu_add, attrs[i]));
+    }
+    assertThat(expected[0]).isNotEqualTo(expected[1]);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Void>> results = new ArrayList<>();
+      for (int thread = 0; thread < 8; thread++) {
+        final int offset = thread;
+        results.add(executor.submit(new Callable<Void>() {
+          @Override public Void call() {
+            for (int i = 0; i < 100; i++) {
+              int index = (i + offset) % attrs.length;
+              Drawable drawable = Utils.getTintedDrawable(context,
+                  android.R.drawable.ic_menu_add, attrs[index]);
+              assertThat(tintOf(drawable)).isEqualTo(expected[index]);
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test public void finderThrowsNiceError() {
     Context context = InstrumentationRegistry.getContext();
     View view = new View(context);
@@ -44,6 +148,48 @@ public final class UtilsTest {
     }
   }
 
+  @Test public void findChildrenFiltersByType() {
+    Context context = InstrumentationRegistry.getContext();
+    FrameLayout root = new FrameLayout(context);
+    LinearLayout group = new LinearLayout(context);
+    group.setId(android.R.id.list);
+    root.addView(group);
+    TextView first = new TextView(context);
+    TextView second = new TextView(context);
+    group.addView(first);
+    group.addView(new View(context));
+    group.addView(second);
+
+    TextView[] children =
+        Utils.findRequiredChildren(root, android.R.id.list, "yo mama", TextView.class);
+    assertThat(children).asList().containsExactly(first, second).inOrder();
+    assertThat(Utils.findRequiredChildren(root, android.R.id.list, "yo mama", View.class))
+        .hasLength(3);
+  }
+
+  @Test public void findOptionalChildrenOfMissingGroupIsEmpty() {
+    Context context = InstrumentationRegistry.getContext();
+    View view = new FrameLayout(context);
+    assertThat(Utils.findOptionalChildren(view, android.R.id.list, "yo mama", View.class))
+        .isEmpty();
+  }
+
+  @Test public void findChildrenThrowsIfNotGroup() {
+    Context context = InstrumentationRegistry.getContext();
+    FrameLayout root = new FrameLayout(context);
+    View view = new View(context);
+    view.setId(android.R.id.list);
+    root.addView(view);
+    try {
+      Utils.findRequiredChildren(root, android.R.id.list, "yo mama", View.class);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("View 'list' with ID "
+          + android.R.id.list
+          + " for yo mama must be a ViewGroup to bind its children.");
+    }
+  }
+
   @Test public void finderThrowsLessNiceErrorInEditMode() {
     Context context = InstrumentationRegistry.getContext();
     View view = new EditModeView(context);
@@ -57,6 +203,24 @@ public final class UtilsTest {
     }
   }
 
+  /** The color of the first opaque pixel of {@code drawable}, which its tint replaces. */
+  private static int tintOf(Drawable drawable) {
+    int width = drawable.getIntrinsicWidth();
+    int height = drawable.getIntrinsicHeight();
+    Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    drawable.setBounds(0, 0, width, height);
+    drawable.draw(new Canvas(bitmap));
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        int pixel = bitmap.getPixel(x, y);
+        if (Color.alpha(pixel) == 0xFF) {
+          return pixel;
+        }
+      }
+    }
+    throw new AssertionError("Drawable has no opaque pixel.");
+  }
+
   static final class EditModeView extends View {
     EditModeView(Context context) {
       super(context);
@@ -0,0 +1,158 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.support.test.InstrumentationRegistry;
+import android.view.View;
+import android.widget.FrameLayout;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+public final class ViewFinderTest {
+  private final Context context = InstrumentationRegistry.getContext();
+
+  @Test public void idSetSortsAndRemovesDuplicates() {
+    assertThat(ViewFinder.idSet(3, 1, 2, 1, 3).ids).asList().containsExactly(1, 2, 3).inOrder();
+    assertThat(ViewFinder.idSet(2, 1).ids).asList().containsExactly(1, 2).inOrder();
+    assertThat(ViewFinder.idSet().ids).isEmpty();
+  }
+
+  @Test public void findsViewsLikeFindViewById() {
+    FrameLayout root = new FrameLayout(context);
+    root.setId(1);
+    FrameLayout group = new FrameLayout(context);
+    View first = new View(context);
+    first.setId(2);
+    View nested = new View(context);
+    nested.setId(3);
+    View duplicate = new View(context);
+    duplicate.setId(3);
+    group.addView(nested);
+    root.addView(first);
+    root.addView(group);
+    root.addView(duplicate);
+
+    ViewFinder finder = new ViewFinder(root, ViewFinder.idSet(3, 2, 1, 4));
+    assertThat(finder.findViewById(1)).isSameAs(root);
+    assertThat(finder.findViewById(2)).isSameAs(first);
+    assertThat(finder.findViewById(3)).isSameAs(root.findViewById(3));
+    assertThat(finder.findViewById(4)).isNull();
+  }
+
+  @Test public void findsIdsOutsideOfTraversal() {
+    FrameLayout root = new FrameLayout(context);
+    View child = new View(context);
+    child.setId(2);
+    root.addView(child);
+
+    ViewFinder finder = new ViewFinder(root, ViewFinder.idSet(1));
+    assertThat(finder.findViewById(2)).isSameAs(child);
+  }
+
+  @Test public void pathsAreRecordedAndFollowed() {
+    ViewFinder.IdSet idSet = ViewFinder.idSet(1, 2);
+
+    new ViewFinder(createItem(), idSet);
+    int[][] paths = idSet.paths;
+    assertThat(paths).isNotNull();
+    assertThat(paths[0]).asList().containsExactly(0).inOrder();
+    assertThat(paths[1]).asList().containsExactly(1, 0).inOrder();
+
+    FrameLayout item = createItem();
+    ViewFinder finder = new ViewFinder(item, idSet);
+    assertThat(finder.findViewById(1)).isSameAs(item.findViewById(1));
+    assertThat(finder.findViewById(2)).isSameAs(item.findViewById(2));
+    assertThat(idSet.paths).isSameAs(paths);
+  }
+
+  @Test public void mismatchedPathFallsBackToTraversal() {
+    ViewFinder.IdSet idSet = ViewFinder.idSet(1, 2);
+    new ViewFinder(createItem(), idSet);
+    int[][] paths = idSet.paths;
+
+    // Same IDs in a different structure.
+    FrameLayout item = new FrameLayout(context);
+    View two = new View(context);
+    two.setId(2);
+    View one = new View(context);
+    one.setId(1);
+    item.addView(two);
+    item.addView(one);
+
+    ViewFinder finder = new ViewFinder(item, idSet);
+    assertThat(finder.findViewById(1)).isSameAs(one);
+    assertThat(finder.findViewById(2)).isSameAs(two);
+    assertThat(idSet.paths).isNotSameAs(paths);
+    assertThat(idSet.paths[0]).asList().containsExactly(1);
+    assertThat(idSet.paths[1]).asList().containsExactly(0);
+  }
+
+  @Test public void missingOptionalViewsAreRecordedAsMissing() {
+    ViewFinder.IdSet idSet = ViewFinder.idSet(1, 2, 3);
+    new ViewFinder(createItem(), idSet);
+    int[][] paths = idSet.paths;
+    assertThat(paths).isNotNull();
+    assertThat(paths[0]).asList().containsExactly(0);
+    assertThat(paths[1]).asList().containsExactly(1, 0).inOrder();
+    assertThat(paths[2]).isNull();
+
+    FrameLayout item = createItem();
+    ViewFinder finder = new ViewFinder(item, idSet);
+    assertThat(finder.findViewById(1)).isSameAs(item.findViewById(1));
+    assertThat(finder.findViewById(2)).isSameAs(item.findViewById(2));
+    assertThat(finder.findViewById(3)).isNull();
+    assertThat(idSet.paths).isSameAs(paths);
+  }
+
+  @Test public void missingOptionalViewsAreFoundInLaterHierarchies() {
+    ViewFinder.IdSet idSet = ViewFinder.idSet(1, 2, 3);
+    new ViewFinder(createItem(), idSet);
+    assertThat(idSet.paths[2]).isNull();
+
+    // The same prefix as before, with the optional view added after it.
+    FrameLayout item = createItem();
+    View three = new View(context);
+    three.setId(3);
+    item.addView(three);
+
+    ViewFinder finder = new ViewFinder(item, idSet);
+    assertThat(finder.findViewById(1)).isSameAs(item.findViewById(1));
+    assertThat(finder.findViewById(2)).isSameAs(item.findViewById(2));
+    assertThat(finder.findViewById(3)).isSameAs(three);
+    assertThat(idSet.paths[2]).asList().containsExactly(2);
+  }
+
+  @Test public void pathsAreNotRecordedWhenNothingIsFound() {
+    ViewFinder.IdSet idSet = ViewFinder.idSet(3, 4);
+    new ViewFinder(createItem(), idSet);
+    assertThat(idSet.paths).isNull();
+  }
+
+  @Test public void finderThrowsNiceError() {
+    View view = new View(context);
+    ViewFinder finder = new ViewFinder(view, ViewFinder.idSet(android.R.id.button1));
+    try {
+      Utils.findRequiredView(finder, android.R.id.button1, "yo mama");
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Required view 'button1' with ID "
+          + android.R.id.button1
+          + " for yo mama was not found. If this view is optional add '@Nullable' (fields) or '@Optional' (methods) annotation.");
+    }
+  }
+
+  /** A root with a view with ID 1 followed by a group containing a view with ID 2. */
+  private FrameLayout createItem() {
+    FrameLayout root = new FrameLayout(context);
+    View one = new View(context);
+    one.setId(1);
+    FrameLayout group = new FrameLayout(context);
+    View two = new View(context);
+    two.setId(2);
+    group.addView(two);
+    root.addView(one);
+    root.addView(group);
+    return root;
+  }
+}
@@ -0,0 +1,218 @@
+package butterknife;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.UiThread;
+import android.view.Choreographer;
+import android.view.View;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects {@link ButterKnife.Action actions} and {@link ButterKnife.Setter setter} values for
+ * views and applies them together at the start of the next frame instead of immediately.
+ * <pre><code>
+ * private final ApplyBatch batch = new ApplyBatch();
+ *
+ * void render(State state) {
+ *   batch.apply(rows, VISIBILITY, state.rowVisibility);
+ * }
+ * </code></pre>
+ * Each view receives at most one value per setter and one invocation per action each frame. When
+ * the same setter or action is applied to a view more than once before the frame, it runs once,
+ * in the position it was first requested, with the value and index of the last apply, exactly as
+ * if only that apply had been made. On API 16 and newer the batch is applied from a
+ * {@link Choreographer} frame callback, which runs just before the frame is measured and laid out.
+ * <p>
+ * Operations are recycled once they have run, so applying to the same views every frame does not
+ * allocate new operations.
+ */
+public final class ApplyBatch {
+  private final Map<Operation, Operation> pending = new LinkedHashMap<>();
+  /** Looks up the pending operation of a view without allocating one. */
+  private final Operation probe = new Operation();
+  private final ArrayList<Operation> running = new ArrayList<>();
+  private final ArrayList<Operation> recycled = new ArrayList<>();
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Runnable flush = new Runnable() {
+    @Override public void run() {
+      scheduled = false;
+      flush();
+    }
+  };
+  private FrameScheduler frameScheduler;
+  private boolean scheduled;
+
+  /** Apply {@code action} to each view in {@code list} in the next frame. */
+  @UiThread
+  public <T extends View> void apply(@NonNull List<T> list,
+      @NonNull ButterKnife.Action<? super T> action) {
+    for (int i = 0, count = list.size(); i < count; i++) {
+      enqueue(list.get(i), action, null, i);
+    }
+  }
+
+  /** Apply {@code action} to each view in {@code array} in the next frame. */
+  @UiThread
+  public <T extends View> void apply(@NonNull T[] array,
+      @NonNull ButterKnife.Action<? super T> action) {
+    for (int i = 0, count = array.length; i < count; i++) {
+      enqueue(array[i], action, null, i);
+    }
+  }
+
+  /** Apply {@code action} to {@code view} in the next frame. */
+  @UiThread
+  public <T extends View> void apply(@NonNull T view,
+      @NonNull ButterKnife.Action<? super T> action) {
+    enqueue(view, action, null, 0);
+  }
+
+  /** Set {@code value} on each view in {@code list} using {@code setter} in the next frame. */
+  @UiThread
+  public <T extends View, V> void apply(@NonNull List<T> list,
+      @NonNull ButterKnife.Setter<? super T, V> setter, V value) {
+    for (int i = 0, count = list.size(); i < count; i++) {
+      enqueue(list.get(i), setter, value, i);
+    }
+  }
+
+  /** Set {@code value} on each view in {@code array} using {@code setter} in the next frame. */
+  @UiThread
+  public <T extends View, V> void apply(@NonNull T[] array,
+      @NonNull ButterKnife.Setter<? super T, V> setter, V value) {
+    for (int i = 0, count = array.length; i < count; i++) {
+      enqueue(array[i], setter, value, i);
+    }
+  }
+
+  /** Set {@code value} on {@code view} using {@code setter} in the next frame. */
+  @UiThread
+  public <T extends View, V> void apply(@NonNull T view,
+      @NonNull ButterKnife.Setter<? super T, V> setter, V value) {
+    enqueue(view, setter, value, 0);
+  }
+
+  /**
+   * Apply everything collected so far now rather than in the next frame. Anything applied to this
+   * batch while flushing is deferred to the following frame.
+   */
+  @UiThread
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    // A setter which flushes this batch again must not reuse the list being run.
+    ArrayList<Operation> operations = running.isEmpty() ? running : new ArrayList<Operation>();
+    operations.addAll(pending.keySet());
+    pending.clear();
+    try {
+      for (int i = 0, count = operations.size(); i < count; i++) {
+        operations.get(i).run();
+      }
+    } finally {
+      recycle(operations);
+      operations.clear();
+    }
+  }
+
+  /** Discard everything collected since the last flush. */
+  @UiThread
+  public void cancel() {
+    recycle(pending.keySet());
+    pending.clear();
+  }
+
+  private void enqueue(View view, Object operation, Object value, int index) {
+    probe.view = view;
+    probe.operation = operation;
+    Operation existing = pending.get(probe);
+    probe.view = null;
+    probe.operation = null;
+    if (existing != null) {
+      // The last apply wins, as if it were the only one.
+      existing.value = value;
+      existing.index = index;
+    } else {
+      int size = recycled.size();
+      Operation next = size > 0 ? recycled.remove(size - 1) : new Operation();
+      next.view = view;
+      next.operation = operation;
+      next.value = value;
+      next.index = index;
+      pending.put(next, next);
+    }
+    if (!scheduled) {
+      scheduled = true;
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+        if (frameScheduler == null) {
+          frameScheduler = new FrameScheduler(flush);
+        }
+        frameScheduler.schedule();
+      } else {
+        handler.post(flush);
+      }
+    }
+  }
+
+  private void recycle(Collection<Operation> operations) {
+    for (Operation operation : operations) {
+      // Do not keep views or values reachable until the operation is reused.
+      operation.view = null;
+      operation.operation = null;
+      operation.value = null;
+      recycled.add(operation);
+    }
+  }
+
+  /** A setter value or action for one view, equal to another for the same view and operation. */
+  private static final class Operation {
+    View view;
+    Object operation;
+    Object value;
+    int index;
+
+    @SuppressWarnings("unchecked") // Operations are only created with matching views and values.
+    void run() {
+      if (operation instanceof ButterKnife.Action) {
+        ((ButterKnife.Action<View>) operation).apply(view, index);
+      } else {
+        ((ButterKnife.Setter<View, Object>) operation).set(view, value, index);
+      }
+    }
+
+    @Override public boolean equals(Object o) {
+      if (!(o instanceof Operation)) return false;
+      Operation other = (Operation) o;
+      return view == other.view && operation == other.operation;
+    }
+
+    @Override public int hashCode() {
+      return 31 * System.identityHashCode(view) + System.identityHashCode(operation);
+    }
+  }
+
+  /** Only loaded on API 16 and newer where {@link Choreographer} exists. */
+  @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+  private static final class FrameScheduler implements Choreographer.FrameCallback {
+    private final Runnable flush;
+
+    FrameScheduler(Runnable flush) {
+      this.flush = flush;
+    }
+
+    void schedule() {
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    @Override public void doFrame(long frameTimeNanos) {
+      flush.run();
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package butterknife;
+
+import android.support.annotation.AnyThread;
+import android.support.annotation.NonNull;
+import android.support.annotation.UiThread;
+import android.view.View;
+
+/**
+ * A {@link BindingFactory} whose bindings can be prepared off the main thread. Generated bindings
+ * expose one as their {@code FACTORY} when the {@code butterknife.asyncBind} annotation processor
+ * option is set.
+ *
+ * @see ButterKnife#bindAsync(Object, View, java.util.concurrent.Executor, ButterKnife.BindCallback)
+ */
+public interface AsyncBindingFactory<T> extends BindingFactory<T> {
+  /**
+   * Look up the views and load the resources for binding {@code target} using {@code source} as
+   * the view root. Nothing is assigned to {@code target} until the result is published.
+   */
+  @NonNull @AnyThread PreparedBinding prepare(@NonNull T target, @NonNull View source);
+
+  /** A binding whose views and resources have been loaded but not yet assigned to its target. */
+  interface PreparedBinding {
+    /** Assign the fields of the target and set listeners on its views. */
+    @NonNull @UiThread Unbinder publish();
+  }
+}
@@ -0,0 +1,109 @@
+package butterknife;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.VisibleForTesting;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Binding factories by target class, segmented by the class loader of each target so that the
+ * bindings of a discarded loader, such as that of a dynamically delivered feature module, are
+ * released along with it.
+ * <p>
+ * Classes loaded by the same loader as Butter Knife are held strongly and looked up without
+ * locking since that loader lives as long as this cache. Other segments hold their classes and
+ * factories weakly so that they never keep their loader reachable. A factory which is not held
+ * elsewhere, as it would be by the {@code FACTORY} field of a generated binding, may be collected
+ * and is then looked up again.
+ */
+final class BindingCache {
+  final ClassLoader baseLoader = BindingCache.class.getClassLoader();
+  private final ConcurrentMap<Class<?>, BindingFactory<?>> base = new ConcurrentHashMap<>();
+  // Guarded by itself.
+  private final Map<ClassLoader, Map<Class<?>, WeakReference<BindingFactory<?>>>> segments =
+      new WeakHashMap<>();
+
+  @Nullable BindingFactory<?> get(@NonNull Class<?> cls) {
+    ClassLoader loader = cls.getClassLoader();
+    if (loader == baseLoader) {
+      return base.get(cls);
+    }
+    synchronized (segments) {
+      Map<Class<?>, WeakReference<BindingFactory<?>>> segment = segments.get(loader);
+      if (segment == null) {
+        return null;
+      }
+      WeakReference<BindingFactory<?>> reference = segment.get(cls);
+      return reference != null ? reference.get() : null;
+    }
+  }
+
+  /**
+   * Caches {@code factory} for {@code cls} unless another thread already cached one. Returns the
+   * factory which ends up cached.
+   */
+  @NonNull BindingFactory<?> putIfAbsent(@NonNull Class<?> cls,
+      @NonNull BindingFactory<?> factory) {
+    ClassLoader loader = cls.getClassLoader();
+    if (loader == baseLoader) {
+      BindingFactory<?> existing = base.putIfAbsent(cls, factory);
+      return existing != null ? existing : factory;
+    }
+    synchronized (segments) {
+      Map<Class<?>, WeakReference<BindingFactory<?>>> segment = segments.get(loader);
+      if (segment == null) {
+        segment = new WeakHashMap<>();
+        segments.put(loader, segment);
+      }
+      WeakReference<BindingFactory<?>> reference = segment.get(cls);
+      BindingFactory<?> existing = reference != null ? reference.get() : null;
+      if (existing != null) {
+        return existing;
+      }
+      segment.put(cls, new WeakReference<BindingFactory<?>>(factory));
+      return factory;
+    }
+  }
+
+  /**
+   * Removes the bindings of every class loaded by {@code loader}. The bindings of Butter Knife's
+   * own loader are never removed since that loader cannot be discarded before this cache.
+   */
+  void evict(@Nullable ClassLoader loader) {
+    if (loader == baseLoader) {
+      return;
+    }
+    synchronized (segments) {
+      segments.remove(loader);
+    }
+  }
+
+  void clear() {
+    base.clear();
+    synchronized (segments) {
+      segments.clear();
+    }
+  }
+
+  /** Returns a copy of every cached binding. */
+  @VisibleForTesting
+  Map<Class<?>, BindingFactory<?>> snapshot() {
+    Map<Class<?>, BindingFactory<?>> snapshot = new LinkedHashMap<>(base);
+    synchronized (segments) {
+      for (Map<Class<?>, WeakReference<BindingFactory<?>>> segment : segments.values()) {
+        for (Map.Entry<Class<?>, WeakReference<BindingFactory<?>>> entry : segment.entrySet()) {
+          BindingFactory<?> factory = entry.getValue().get();
+          if (factory != null) {
+            snapshot.put(entry.getKey(), factory);
+          }
+        }
+      }
+    }
+    return snapshot;
+  }
+}
@@ -0,0 +1,14 @@
+package butterknife;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.UiThread;
+import android.view.View;
+
+/**
+ * Creates the generated binding for instances of {@code T}. Every generated binding class exposes
+ * one as its {@code FACTORY} field so the binding can be created without reflection.
+ */
+public interface BindingFactory<T> {
+  /** Bind {@code target} using {@code source} as the view root. */
+  @NonNull @UiThread Unbinder create(@NonNull T target, @NonNull View source);
+}
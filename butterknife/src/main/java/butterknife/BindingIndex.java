@@ -0,0 +1,20 @@
+package butterknife;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * A compile-time index of the view bindings generated for a single module. Consulting an index
+ * avoids reflectively probing each class in a target's hierarchy for a generated binding.
+ * <p>
+ * An implementation is generated when the {@code butterknife.index} annotation processor option is
+ * set to the fully-qualified name of the class to create. Register an instance of it with
+ * {@link ButterKnife#addIndex(BindingIndex)} before the first call to {@code bind}.
+ */
+public interface BindingIndex {
+  /**
+   * Returns the factory of the generated binding for instances of exactly {@code target}, or null
+   * if this index does not contain one.
+   */
+  @Nullable BindingFactory<?> getBindingFactory(@NonNull Class<?> target);
+}
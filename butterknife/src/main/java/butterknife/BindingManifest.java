@@ -0,0 +1,14 @@
+package butterknife;
+
+import android.support.annotation.NonNull;
+
+/**
+ * The targets of every view binding generated for a single module. A {@link BindingIndex}
+ * generated by the annotation processor also implements this interface, which allows
+ * {@link ButterKnife#prewarm(java.util.concurrent.Executor, Class[])} to load its bindings ahead
+ * of time.
+ */
+public interface BindingManifest {
+  /** Binary names of the classes which have a generated binding, in declaration order. */
+  @NonNull String[] getTargetClassNames();
+}
@@ -0,0 +1,60 @@
+package butterknife;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.UiThread;
+import android.view.View;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the binding of each target it binds so that binding the same target again, such as a
+ * recycled view holder, reuses it.
+ * <pre><code>
+ * private final BindingPool bindings = new BindingPool();
+ *
+ * {@literal @}Override public View getView(int position, View view, ViewGroup parent) {
+ *   ...
+ *   bindings.bind(holder, view);
+ * }
+ * </code></pre>
+ * Bindings generated with the {@code butterknife.rebindable} annotation processor option are
+ * {@linkplain Rebinder#rebind(View) rebound} without allocating. Any other binding is unbound and
+ * replaced by a new one.
+ */
+public final class BindingPool {
+  private final Map<Object, Unbinder> bindings = new IdentityHashMap<>();
+
+  /** Bind annotated fields and methods in {@code target} to views in {@code source}. */
+  @NonNull @UiThread
+  public Unbinder bind(@NonNull Object target, @NonNull View source) {
+    Unbinder binding = bindings.get(target);
+    if (binding instanceof Rebinder) {
+      ((Rebinder) binding).rebind(source);
+      return binding;
+    }
+    if (binding != null) {
+      binding.unbind();
+    }
+    binding = ButterKnife.bind(target, source);
+    bindings.put(target, binding);
+    return binding;
+  }
+
+  /** Unbind {@code target} and forget its binding. */
+  @UiThread
+  public void release(@NonNull Object target) {
+    Unbinder binding = bindings.remove(target);
+    if (binding != null) {
+      binding.unbind();
+    }
+  }
+
+  /** Unbind every target and forget their bindings. */
+  @UiThread
+  public void clear() {
+    for (Unbinder binding : bindings.values()) {
+      binding.unbind();
+    }
+    bindings.clear();
+  }
+}
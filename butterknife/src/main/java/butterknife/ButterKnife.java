@@ -3,7 +3,11 @@ package butterknife;
 import android.annotation.TargetApi;
 import android.app.Activity;
 import android.app.Dialog;
+import android.content.Context;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.AnyThread;
 import android.support.annotation.CheckResult;
 import android.support.annotation.IdRes;
 import android.support.annotation.NonNull;
@@ -11,14 +15,17 @@ import android.support.annotation.Nullable;
 import android.support.annotation.RequiresApi;
 import android.support.annotation.UiThread;
 import android.support.annotation.VisibleForTesting;
+import android.util.FloatProperty;
+import android.util.IntProperty;
 import android.util.Log;
 import android.util.Property;
 import android.view.View;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.LinkedHashMap;
+import butterknife.internal.DebouncingOnClickListener;
+import butterknife.internal.Utils;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * Field and method binding for Android views. Use this class to simplify finding views and
@@ -94,6 +101,93 @@ public final class ButterKnife {
     void apply(@NonNull T view, int index);
   }
 
+  /** A setter that can apply a {@code boolean} value to a list of views without boxing it. */
+  public interface BooleanSetter<T extends View> {
+    /** Set the {@code value} on the {@code view} which is at {@code index} in the list. */
+    @UiThread
+    void set(@NonNull T view, boolean value, int index);
+  }
+
+  /** Receives the result of {@link #bindAsync(Object, View, Executor, BindCallback)}. */
+  public interface BindCallback {
+    /** Called on the main thread once all fields are assigned and listeners set. */
+    @UiThread
+    void onBound(@NonNull Unbinder unbinder);
+  }
+
+  /**
+   * Receives events for every binding lookup, creation, and unbind. Install one with
+   * {@link #setEventListener(EventListener)} to measure binding cost, such as to record bind
+   * latency per screen. All times are in nanoseconds as returned by {@link System#nanoTime()}.
+   * <p>
+   * Lookups may happen on any thread, including concurrently, so implementations must be
+   * thread-safe and should be fast since they run inline with binding.
+   */
+  public abstract static class EventListener {
+    /** A lookup of the binding for {@code targetClass} started at {@code startNanos}. */
+    public void lookupStart(@NonNull Class<?> targetClass, long startNanos) {
+    }
+
+    /**
+     * The binding for {@code cls}, which is {@code targetClass} or one of its superclasses, was
+     * found in the cache {@code elapsedNanos} after the lookup started. {@code hasBinding} is false
+     * if {@code cls} is cached as having no binding.
+     */
+    public void cacheHit(@NonNull Class<?> targetClass, @NonNull Class<?> cls, boolean hasBinding,
+        long elapsedNanos) {
+    }
+
+    /**
+     * The binding for {@code cls}, which is {@code targetClass} or one of its superclasses, was not
+     * in the cache {@code elapsedNanos} after the lookup started and will be resolved.
+     */
+    public void cacheMiss(@NonNull Class<?> targetClass, @NonNull Class<?> cls,
+        long elapsedNanos) {
+    }
+
+    /**
+     * No registered {@link BindingIndex} contained {@code cls} so its binding class was loaded
+     * reflectively, which took {@code durationNanos}. {@code found} is false if there was no
+     * binding class and the search continues with the superclass of {@code cls}.
+     */
+    public void reflectionFallback(@NonNull Class<?> targetClass, @NonNull Class<?> cls,
+        boolean found, long durationNanos) {
+    }
+
+    /**
+     * The lookup of the binding for {@code targetClass} finished after {@code durationNanos}.
+     * {@code hasBinding} is false if neither it nor any of its superclasses have a binding.
+     */
+    public void lookupEnd(@NonNull Class<?> targetClass, boolean hasBinding, long durationNanos) {
+    }
+
+    /**
+     * The binding for an instance of {@code targetClass} was created in {@code durationNanos}, not
+     * including its lookup. For {@link #bindAsync} this is the time spent on the executor and on
+     * the main thread combined.
+     */
+    public void bindingCreated(@NonNull Class<?> targetClass, long durationNanos) {
+    }
+
+    /** The binding for an instance of {@code targetClass} was unbound in {@code durationNanos}. */
+    public void unbound(@NonNull Class<?> targetClass, long durationNanos) {
+    }
+  }
+
+  /** A setter that can apply a {@code float} value to a list of views without boxing it. */
+  public interface FloatSetter<T extends View> {
+    /** Set the {@code value} on the {@code view} which is at {@code index} in the list. */
+    @UiThread
+    void set(@NonNull T view, float value, int index);
+  }
+
+  /** A setter that can apply an {@code int} value to a list of views without boxing it. */
+  public interface IntSetter<T extends View> {
+    /** Set the {@code value} on the {@code view} which is at {@code index} in the list. */
+    @UiThread
+    void set(@NonNull T view, int value, int index);
+  }
+
   /** A setter that can apply a value to a list of views. */
   public interface Setter<T extends View, V> {
     /** Set the {@code value} on the {@code view} which is at {@code index} in the list. */
@@ -102,14 +196,156 @@ public final class ButterKnife {
   }
 
   private static final String TAG = "ButterKnife";
-  private static boolean debug = false;
+  /** Null unless installed, in which case lookups and binds skip every measurement. */
+  private static volatile EventListener eventListener;
+  /** Read by binds on any thread, including those preparing bindings on an executor. */
+  private static volatile boolean tracing = false;
 
+  // Lookups are safe from any thread. Racing threads resolve the same factory so whichever is
+  // cached first wins.
   @VisibleForTesting
-  static final Map<Class<?>, Constructor<? extends Unbinder>> BINDINGS = new LinkedHashMap<>();
+  static final BindingCache BINDINGS = new BindingCache();
+  @VisibleForTesting
+  static final List<BindingIndex> INDEXES = new CopyOnWriteArrayList<>();
+  @VisibleForTesting
+  static final CopyOnWriteArrayList<String> IGNORED_PACKAGE_PREFIXES = new CopyOnWriteArrayList<>(
+      Arrays.asList("android.", "androidx.", "java.", "javax.", "kotlin."));
+
+  /** Cached for classes which have no binding. Binds nothing when invoked. */
+  @VisibleForTesting
+  static final BindingFactory<Object> NO_BINDING = new BindingFactory<Object>() {
+    @Override public Unbinder create(@NonNull Object target, @NonNull View source) {
+      return Unbinder.EMPTY;
+    }
+  };
 
-  /** Control whether debug logging is enabled. */
+  /**
+   * Control whether debug logging is enabled. Enabling it installs an {@link EventListener} which
+   * logs every lookup, replacing any listener previously set.
+   */
   public static void setDebug(boolean debug) {
-    ButterKnife.debug = debug;
+    eventListener = debug ? new LoggingEventListener() : null;
+  }
+
+  /**
+   * Control whether lookups and binds are wrapped in {@link android.os.Trace} sections named
+   * {@code BK:lookup:<class>} and {@code BK:bind:<class>} so that they appear in systrace and
+   * Perfetto captures. Bindings generated with the {@code butterknife.trace} annotation processor
+   * option additionally trace finding views, setting listeners, and loading resources.
+   */
+  public static void setTracing(boolean tracing) {
+    ButterKnife.tracing = tracing;
+  }
+
+  /**
+   * Set the listener which receives events for every binding lookup, creation, and unbind, or null
+   * to remove it. Listeners should be set before the first call to {@code bind}.
+   */
+  public static void setEventListener(@Nullable EventListener eventListener) {
+    ButterKnife.eventListener = eventListener;
+  }
+
+  /**
+   * Set the time after a click during which further clicks bound with {@link OnClick} are ignored.
+   * Which clicks are ignored is controlled by {@link OnClick#debounce()}. Defaults to
+   * {@value DebouncingOnClickListener#DEFAULT_WINDOW_MILLIS}ms.
+   */
+  public static void setClickDebounceWindow(long windowMillis) {
+    DebouncingOnClickListener.setWindowMillis(windowMillis);
+  }
+
+  /**
+   * Register a generated {@link BindingIndex} which will be consulted before falling back to
+   * reflectively looking up binding classes. Indexes should be added before the first call to
+   * {@code bind}, typically in {@code Application.onCreate()}.
+   */
+  public static void addIndex(@NonNull BindingIndex index) {
+    if (index == null) throw new NullPointerException("index == null");
+    INDEXES.add(index);
+  }
+
+  /**
+   * Release the cached bindings of every class loaded by {@code loader}, along with any registered
+   * index it loaded. Call this when discarding a class loader, such as that of a dynamically
+   * delivered feature module or plugin, so that Butter Knife does not keep it reachable. Bindings
+   * of other loaders are held weakly and are also released once their loader is collected.
+   *
+   * @throws IllegalArgumentException if {@code loader} loaded Butter Knife itself, whose bindings
+   * and indexes, such as those of the application, must outlive every lookup.
+   */
+  public static void evict(@NonNull ClassLoader loader) {
+    if (loader == null) throw new NullPointerException("loader == null");
+    if (loader == BINDINGS.baseLoader) {
+      throw new IllegalArgumentException("Cannot evict the class loader of Butter Knife.");
+    }
+    BINDINGS.evict(loader);
+    for (BindingIndex index : INDEXES) {
+      if (index.getClass().getClassLoader() == loader) {
+        INDEXES.remove(index);
+      }
+    }
+  }
+
+  /**
+   * Stop searching the class hierarchy of a target for bindings once a class whose name starts with
+   * {@code prefix} is reached. Classes in the {@code android.}, {@code androidx.}, {@code java.},
+   * {@code javax.}, and {@code kotlin.} packages are always ignored. Add the packages of other
+   * libraries whose base classes you bind through, such as {@code "com.google."}, to avoid probing
+   * them for bindings they cannot have.
+   */
+  public static void addIgnoredPackagePrefix(@NonNull String prefix) {
+    if (prefix == null) throw new NullPointerException("prefix == null");
+    IGNORED_PACKAGE_PREFIXES.addIfAbsent(prefix);
+  }
+
+  /**
+   * Resolve and cache the binding for {@code targetClass} so that the first {@code bind} of an
+   * instance does not have to. Unlike {@code bind}, this may be called from any thread.
+   */
+  public static void preloadBinding(@NonNull Class<?> targetClass) {
+    if (targetClass == null) throw new NullPointerException("targetClass == null");
+    findBindingFactoryForClass(targetClass);
+  }
+
+  /**
+   * Load and cache the bindings of every registered index which is also a
+   * {@link BindingManifest} on {@code executor}, typically from {@code Application.onCreate()}.
+   * This moves loading and linking the generated binding classes off the main thread and away from
+   * the first {@code bind} of each screen.
+   *
+   * @param executor Executor on which a single task performing all loading will be run.
+   * @param priority Targets to load first, in order, such as those of the initial screen. All
+   * others follow in the order they are listed by their manifest.
+   */
+  public static void prewarm(@NonNull Executor executor, @NonNull final Class<?>... priority) {
+    if (executor == null) throw new NullPointerException("executor == null");
+    if (priority == null) throw new NullPointerException("priority == null");
+    executor.execute(new Runnable() {
+      @Override public void run() {
+        for (Class<?> targetClass : priority) {
+          findBindingFactoryForClass(targetClass);
+        }
+        for (BindingIndex index : INDEXES) {
+          if (index instanceof BindingManifest) {
+            prewarmManifest((BindingManifest) index);
+          }
+        }
+      }
+    });
+  }
+
+  private static void prewarmManifest(BindingManifest manifest) {
+    ClassLoader classLoader = manifest.getClass().getClassLoader();
+    for (String targetClassName : manifest.getTargetClassNames()) {
+      Class<?> targetClass;
+      try {
+        // Avoid initializing targets. Only their bindings are of interest.
+        targetClass = Class.forName(targetClassName, false, classLoader);
+      } catch (ClassNotFoundException e) {
+        continue; // Removed by shrinking.
+      }
+      findBindingFactoryForClass(targetClass);
+    }
   }
 
   /**
@@ -185,59 +421,298 @@ public final class ButterKnife {
     return createBinding(target, sourceView);
   }
 
-  private static Unbinder createBinding(@NonNull Object target, @NonNull View source) {
+  /**
+   * BindView annotated fields and methods in the specified {@code target} using the {@code source}
+   * {@link View} as the view root, such as one inflated by {@code AsyncLayoutInflater}. Views are
+   * looked up and resources loaded on {@code executor}. Fields are then assigned and listeners set
+   * on the main thread, immediately before {@code callback} is invoked.
+   * <p>
+   * Only bindings generated with the {@code butterknife.asyncBind} annotation processor option can
+   * be prepared on {@code executor}. Others are created entirely on the main thread.
+   *
+   * @param target Target class for view binding.
+   * @param source View root on which IDs will be looked up.
+   * @param executor Executor on which views are looked up and resources loaded.
+   * @param callback Notified on the main thread once binding completes.
+   */
+  @AnyThread
+  public static void bindAsync(@NonNull final Object target, @NonNull final View source,
+      @NonNull Executor executor, @NonNull final BindCallback callback) {
+    if (target == null) throw new NullPointerException("target == null");
+    if (source == null) throw new NullPointerException("source == null");
+    if (executor == null) throw new NullPointerException("executor == null");
+    if (callback == null) throw new NullPointerException("callback == null");
+    final Handler main = new Handler(Looper.getMainLooper());
+    executor.execute(new Runnable() {
+      @Override public void run() {
+        final Class<?> targetClass = target.getClass();
+        final EventListener listener = eventListener;
+        long startNanos = listener != null ? System.nanoTime() : 0L;
+        final boolean traced = tracing;
+        if (traced) Utils.beginSection("BK:prepare:" + targetClass.getName());
+
+        BindingFactory<?> found = null;
+        AsyncBindingFactory.PreparedBinding prepared = null;
+        Unbinder created = null;
+        RuntimeException failure = null;
+        try {
+          // A broken binding class fails here, so the lookup must report on the main thread too.
+          found = findBindingFactoryForClass(targetClass);
+          if (found instanceof AsyncBindingFactory) {
+            //noinspection unchecked
+            prepared = ((AsyncBindingFactory<Object>) found).prepare(target, source);
+          } else if (found instanceof ResourceBindingFactory) {
+            //noinspection unchecked
+            created = ((ResourceBindingFactory<Object>) found)
+                .create(target, source.getContext());
+          }
+        } catch (RuntimeException e) {
+          failure = e;
+        } finally {
+          if (traced) Utils.endSection();
+        }
+        final long prepareNanos = listener != null ? System.nanoTime() - startNanos : 0L;
+
+        final BindingFactory<?> factory = found;
+        final AsyncBindingFactory.PreparedBinding result = prepared;
+        final Unbinder resourceUnbinder = created;
+        final RuntimeException error = failure;
+        main.post(new Runnable() {
+          @Override public void run() {
+            if (error != null) {
+              // Fail on the main thread as a synchronous bind would.
+              throw error;
+            }
+            long publishStartNanos = listener != null ? System.nanoTime() : 0L;
+            if (traced) Utils.beginSection("BK:publish:" + targetClass.getName());
+            Unbinder unbinder;
+            try {
+              if (result != null) {
+                unbinder = result.publish();
+              } else if (resourceUnbinder != null) {
+                unbinder = resourceUnbinder;
+              } else {
+                //noinspection unchecked
+                unbinder = ((BindingFactory<Object>) factory).create(target, source);
+              }
+            } finally {
+              if (traced) Utils.endSection();
+            }
+            if (listener != null && factory != NO_BINDING) {
+              long durationNanos = prepareNanos + System.nanoTime() - publishStartNanos;
+              listener.bindingCreated(targetClass, durationNanos);
+              unbinder = EventUnbinder.wrap(unbinder, targetClass, listener);
+            }
+            callback.onBound(unbinder);
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Bind resource annotated fields in the specified {@code target} using {@code context} to load
+   * them. Unlike {@code bind}, this may be called from any thread so that objects with many bound
+   * resources can be created in parallel, such as during startup.
+   *
+   * @param target Target class for resource binding.
+   * @param context Context from which resources will be loaded.
+   * @throws IllegalArgumentException if {@code target} also binds views or listeners.
+   */
+  @NonNull @AnyThread
+  public static Unbinder bindResources(@NonNull Object target, @NonNull Context context) {
+    if (target == null) throw new NullPointerException("target == null");
+    if (context == null) throw new NullPointerException("context == null");
     Class<?> targetClass = target.getClass();
-    if (debug) Log.d(TAG, "Looking up binding for " + targetClass.getName());
-    Constructor<? extends Unbinder> constructor = findBindingConstructorForClass(targetClass);
+    boolean traced = tracing;
+    if (traced) Utils.beginSection("BK:bind:" + targetClass.getName());
+    try {
+      return createResourceBinding(target, targetClass, context);
+    } finally {
+      if (traced) Utils.endSection();
+    }
+  }
 
-    if (constructor == null) {
+  private static Unbinder createResourceBinding(@NonNull Object target,
+      @NonNull Class<?> targetClass, @NonNull Context context) {
+    BindingFactory<?> factory = findBindingFactoryForClass(targetClass);
+    if (factory == NO_BINDING) {
       return Unbinder.EMPTY;
     }
+    if (!(factory instanceof ResourceBindingFactory)) {
+      throw new IllegalArgumentException(targetClass.getName()
+          + " binds views or listeners and must be bound with a view.");
+    }
+    //noinspection unchecked
+    ResourceBindingFactory<Object> resourceFactory = (ResourceBindingFactory<Object>) factory;
+    EventListener listener = eventListener;
+    if (listener == null) {
+      return resourceFactory.create(target, context);
+    }
+    long startNanos = System.nanoTime();
+    Unbinder unbinder = resourceFactory.create(target, context);
+    listener.bindingCreated(targetClass, System.nanoTime() - startNanos);
+    return EventUnbinder.wrap(unbinder, targetClass, listener);
+  }
 
-    //noinspection TryWithIdenticalCatches Resolves to API 19+ only type.
+  private static Unbinder createBinding(@NonNull Object target, @NonNull View source) {
+    Class<?> targetClass = target.getClass();
+    boolean traced = tracing;
+    if (traced) Utils.beginSection("BK:bind:" + targetClass.getName());
     try {
-      return constructor.newInstance(target, source);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException("Unable to invoke " + constructor, e);
-    } catch (InstantiationException e) {
-      throw new RuntimeException("Unable to invoke " + constructor, e);
-    } catch (InvocationTargetException e) {
-      Throwable cause = e.getCause();
-      if (cause instanceof RuntimeException) {
-        throw (RuntimeException) cause;
-      }
-      if (cause instanceof Error) {
-        throw (Error) cause;
-      }
-      throw new RuntimeException("Unable to create binding instance.", cause);
+      return createBinding(target, targetClass, source);
+    } finally {
+      if (traced) Utils.endSection();
     }
   }
 
-  @Nullable @CheckResult @UiThread
-  private static Constructor<? extends Unbinder> findBindingConstructorForClass(Class<?> cls) {
-    Constructor<? extends Unbinder> bindingCtor = BINDINGS.get(cls);
-    if (bindingCtor != null) {
-      if (debug) Log.d(TAG, "HIT: Cached in binding map.");
-      return bindingCtor;
+  private static Unbinder createBinding(@NonNull Object target, @NonNull Class<?> targetClass,
+      @NonNull View source) {
+    //noinspection unchecked
+    BindingFactory<Object> factory =
+        (BindingFactory<Object>) findBindingFactoryForClass(targetClass);
+    EventListener listener = eventListener;
+    if (listener == null || factory == NO_BINDING) {
+      return factory.create(target, source);
+    }
+    long startNanos = System.nanoTime();
+    Unbinder unbinder = factory.create(target, source);
+    listener.bindingCreated(targetClass, System.nanoTime() - startNanos);
+    return EventUnbinder.wrap(unbinder, targetClass, listener);
+  }
+
+  /**
+   * Returns the factory for the binding of {@code cls} or its nearest bound superclass. Returns
+   * {@link #NO_BINDING} if there is none, which is also cached for every class in the hierarchy
+   * so that subsequent lookups do not repeat the search.
+   */
+  @NonNull @CheckResult
+  private static BindingFactory<?> findBindingFactoryForClass(Class<?> targetClass) {
+    boolean traced = tracing;
+    if (traced) Utils.beginSection("BK:lookup:" + targetClass.getName());
+    try {
+      return findBindingFactoryForClass(targetClass, eventListener);
+    } finally {
+      if (traced) Utils.endSection();
+    }
+  }
+
+  @NonNull @CheckResult
+  private static BindingFactory<?> findBindingFactoryForClass(Class<?> targetClass,
+      @Nullable EventListener listener) {
+    if (listener == null) {
+      return findBindingFactoryForClass(targetClass, targetClass, null, 0L);
+    }
+    long startNanos = System.nanoTime();
+    listener.lookupStart(targetClass, startNanos);
+    BindingFactory<?> bindingFactory =
+        findBindingFactoryForClass(targetClass, targetClass, listener, startNanos);
+    listener.lookupEnd(targetClass, bindingFactory != NO_BINDING, System.nanoTime() - startNanos);
+    return bindingFactory;
+  }
+
+  @NonNull @CheckResult
+  private static BindingFactory<?> findBindingFactoryForClass(Class<?> targetClass, Class<?> cls,
+      @Nullable EventListener listener, long startNanos) {
+    BindingFactory<?> bindingFactory = BINDINGS.get(cls);
+    if (bindingFactory != null) {
+      if (listener != null) {
+        listener.cacheHit(targetClass, cls, bindingFactory != NO_BINDING,
+            System.nanoTime() - startNanos);
+      }
+      return bindingFactory;
     }
     String clsName = cls.getName();
-    if (clsName.startsWith("android.") || clsName.startsWith("java.")) {
+    // Steps which have no event of their own are only logged when debugging.
+    boolean debug = listener instanceof LoggingEventListener;
+    if (isIgnoredClass(clsName)) {
       if (debug) Log.d(TAG, "MISS: Reached framework class. Abandoning search.");
-      return null;
+      return NO_BINDING;
     }
-    try {
-      Class<?> bindingClass = Class.forName(clsName + "_ViewBinding");
-      //noinspection unchecked
-      bindingCtor = (Constructor<? extends Unbinder>) bindingClass.getConstructor(cls, View.class);
-      if (debug) Log.d(TAG, "HIT: Loaded binding class and constructor.");
-    } catch (ClassNotFoundException e) {
-      if (debug) Log.d(TAG, "Not found. Trying superclass " + cls.getSuperclass().getName());
-      bindingCtor = findBindingConstructorForClass(cls.getSuperclass());
-    } catch (NoSuchMethodException e) {
-      throw new RuntimeException("Unable to find binding constructor for " + clsName, e);
+    if (listener != null) listener.cacheMiss(targetClass, cls, System.nanoTime() - startNanos);
+    bindingFactory = findIndexedBindingFactory(cls);
+    if (bindingFactory != null) {
+      if (debug) Log.d(TAG, "HIT: Found binding factory in index.");
+    } else {
+      long reflectionStartNanos = listener != null ? System.nanoTime() : 0L;
+      try {
+        // Generated bindings are loaded alongside their targets, such as by a feature module.
+        Class<?> bindingClass = Class.forName(clsName + "_ViewBinding", true, cls.getClassLoader());
+        bindingFactory = (BindingFactory<?>) bindingClass.getField("FACTORY").get(null);
+        if (listener != null) {
+          listener.reflectionFallback(targetClass, cls, true,
+              System.nanoTime() - reflectionStartNanos);
+        }
+      } catch (ClassNotFoundException e) {
+        if (listener != null) {
+          listener.reflectionFallback(targetClass, cls, false,
+              System.nanoTime() - reflectionStartNanos);
+        }
+        bindingFactory =
+            findBindingFactoryForClass(targetClass, cls.getSuperclass(), listener, startNanos);
+      } catch (NoSuchFieldException e) {
+        throw new RuntimeException("Unable to find binding factory for " + clsName, e);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException("Unable to access binding factory for " + clsName, e);
+      }
+    }
+    return BINDINGS.putIfAbsent(cls, bindingFactory);
+  }
+
+  @CheckResult
+  private static boolean isIgnoredClass(String clsName) {
+    for (String prefix : IGNORED_PACKAGE_PREFIXES) {
+      if (clsName.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Nullable @CheckResult
+  private static BindingFactory<?> findIndexedBindingFactory(Class<?> cls) {
+    for (BindingIndex index : INDEXES) {
+      BindingFactory<?> bindingFactory = index.getBindingFactory(cls);
+      if (bindingFactory != null) {
+        return bindingFactory;
+      }
     }
-    BINDINGS.put(cls, bindingCtor);
-    return bindingCtor;
+    return null;
+  }
+
+  /**
+   * Returns a setter which calls {@code setter} only when a view is given a value different from
+   * the last one this setter applied to it, such as when re-applying unchanged state. The value
+   * must only be changed through the returned setter, otherwise changes made elsewhere are not
+   * seen. The returned setter can be used with every {@code apply} overload for its type. Each
+   * view remembers a value for every memoizing setter applied to it, so create them once and reuse
+   * them rather than memoizing again for every apply.
+   */
+  @NonNull @CheckResult
+  public static <T extends View, V> Setter<T, V> memoize(@NonNull Setter<T, V> setter) {
+    if (setter == null) throw new NullPointerException("setter == null");
+    return new MemoizingSetters.MemoizingSetter<>(setter);
+  }
+
+  /** Returns a setter which skips unchanged values, like {@link #memoize(Setter)}. */
+  @NonNull @CheckResult
+  public static <T extends View> BooleanSetter<T> memoize(@NonNull BooleanSetter<T> setter) {
+    if (setter == null) throw new NullPointerException("setter == null");
+    return new MemoizingSetters.MemoizingBooleanSetter<>(setter);
+  }
+
+  /** Returns a setter which skips unchanged values, like {@link #memoize(Setter)}. */
+  @NonNull @CheckResult
+  public static <T extends View> FloatSetter<T> memoize(@NonNull FloatSetter<T> setter) {
+    if (setter == null) throw new NullPointerException("setter == null");
+    return new MemoizingSetters.MemoizingFloatSetter<>(setter);
+  }
+
+  /** Returns a setter which skips unchanged values, like {@link #memoize(Setter)}. */
+  @NonNull @CheckResult
+  public static <T extends View> IntSetter<T> memoize(@NonNull IntSetter<T> setter) {
+    if (setter == null) throw new NullPointerException("setter == null");
+    return new MemoizingSetters.MemoizingIntSetter<>(setter);
   }
 
   /** Apply the specified {@code actions} across the {@code list} of views. */
@@ -319,6 +794,81 @@ public final class ButterKnife {
     setter.set(view, value, 0);
   }
 
+  /** Set the {@code value} using the specified {@code setter} across the {@code list} of views. */
+  @UiThread
+  public static <T extends View> void apply(@NonNull List<T> list,
+      @NonNull BooleanSetter<? super T> setter, boolean value) {
+    for (int i = 0, count = list.size(); i < count; i++) {
+      setter.set(list.get(i), value, i);
+    }
+  }
+
+  /** Set the {@code value} using the specified {@code setter} across the {@code array} of views. */
+  @UiThread
+  public static <T extends View> void apply(@NonNull T[] array,
+      @NonNull BooleanSetter<? super T> setter, boolean value) {
+    for (int i = 0, count = array.length; i < count; i++) {
+      setter.set(array[i], value, i);
+    }
+  }
+
+  /** Set {@code value} on {@code view} using {@code setter}. */
+  @UiThread
+  public static <T extends View> void apply(@NonNull T view,
+      @NonNull BooleanSetter<? super T> setter, boolean value) {
+    setter.set(view, value, 0);
+  }
+
+  /** Set the {@code value} using the specified {@code setter} across the {@code list} of views. */
+  @UiThread
+  public static <T extends View> void apply(@NonNull List<T> list,
+      @NonNull FloatSetter<? super T> setter, float value) {
+    for (int i = 0, count = list.size(); i < count; i++) {
+      setter.set(list.get(i), value, i);
+    }
+  }
+
+  /** Set the {@code value} using the specified {@code setter} across the {@code array} of views. */
+  @UiThread
+  public static <T extends View> void apply(@NonNull T[] array,
+      @NonNull FloatSetter<? super T> setter, float value) {
+    for (int i = 0, count = array.length; i < count; i++) {
+      setter.set(array[i], value, i);
+    }
+  }
+
+  /** Set {@code value} on {@code view} using {@code setter}. */
+  @UiThread
+  public static <T extends View> void apply(@NonNull T view,
+      @NonNull FloatSetter<? super T> setter, float value) {
+    setter.set(view, value, 0);
+  }
+
+  /** Set the {@code value} using the specified {@code setter} across the {@code list} of views. */
+  @UiThread
+  public static <T extends View> void apply(@NonNull List<T> list,
+      @NonNull IntSetter<? super T> setter, int value) {
+    for (int i = 0, count = list.size(); i < count; i++) {
+      setter.set(list.get(i), value, i);
+    }
+  }
+
+  /** Set the {@code value} using the specified {@code setter} across the {@code array} of views. */
+  @UiThread
+  public static <T extends View> void apply(@NonNull T[] array,
+      @NonNull IntSetter<? super T> setter, int value) {
+    for (int i = 0, count = array.length; i < count; i++) {
+      setter.set(array[i], value, i);
+    }
+  }
+
+  /** Set {@code value} on {@code view} using {@code setter}. */
+  @UiThread
+  public static <T extends View> void apply(@NonNull T view,
+      @NonNull IntSetter<? super T> setter, int value) {
+    setter.set(view, value, 0);
+  }
+
   /**
    * Apply the specified {@code value} across the {@code list} of views using the {@code property}.
    */
@@ -356,6 +906,84 @@ public final class ButterKnife {
     setter.set(view, value);
   }
 
+  /**
+   * Apply the specified {@code value} across the {@code list} of views using the {@code property}
+   * without boxing it.
+   */
+  @TargetApi(Build.VERSION_CODES.N) // http://b.android.com/213630
+  @RequiresApi(Build.VERSION_CODES.N)
+  @UiThread
+  public static <T extends View> void apply(@NonNull List<T> list,
+      @NonNull FloatProperty<? super T> property, float value) {
+    //noinspection ForLoopReplaceableByForEach
+    for (int i = 0, count = list.size(); i < count; i++) {
+      property.setValue(list.get(i), value);
+    }
+  }
+
+  /**
+   * Apply the specified {@code value} across the {@code array} of views using the
+   * {@code property} without boxing it.
+   */
+  @TargetApi(Build.VERSION_CODES.N) // http://b.android.com/213630
+  @RequiresApi(Build.VERSION_CODES.N)
+  @UiThread
+  public static <T extends View> void apply(@NonNull T[] array,
+      @NonNull FloatProperty<? super T> property, float value) {
+    //noinspection ForLoopReplaceableByForEach
+    for (int i = 0, count = array.length; i < count; i++) {
+      property.setValue(array[i], value);
+    }
+  }
+
+  /** Apply {@code value} to {@code view} using {@code property} without boxing it. */
+  @TargetApi(Build.VERSION_CODES.N) // http://b.android.com/213630
+  @RequiresApi(Build.VERSION_CODES.N)
+  @UiThread
+  public static <T extends View> void apply(@NonNull T view,
+      @NonNull FloatProperty<? super T> property, float value) {
+    property.setValue(view, value);
+  }
+
+  /**
+   * Apply the specified {@code value} across the {@code list} of views using the {@code property}
+   * without boxing it.
+   */
+  @TargetApi(Build.VERSION_CODES.N) // http://b.android.com/213630
+  @RequiresApi(Build.VERSION_CODES.N)
+  @UiThread
+  public static <T extends View> void apply(@NonNull List<T> list,
+      @NonNull IntProperty<? super T> property, int value) {
+    //noinspection ForLoopReplaceableByForEach
+    for (int i = 0, count = list.size(); i < count; i++) {
+      property.setValue(list.get(i), value);
+    }
+  }
+
+  /**
+   * Apply the specified {@code value} across the {@code array} of views using the
+   * {@code property} without boxing it.
+   */
+  @TargetApi(Build.VERSION_CODES.N) // http://b.android.com/213630
+  @RequiresApi(Build.VERSION_CODES.N)
+  @UiThread
+  public static <T extends View> void apply(@NonNull T[] array,
+      @NonNull IntProperty<? super T> property, int value) {
+    //noinspection ForLoopReplaceableByForEach
+    for (int i = 0, count = array.length; i < count; i++) {
+      property.setValue(array[i], value);
+    }
+  }
+
+  /** Apply {@code value} to {@code view} using {@code property} without boxing it. */
+  @TargetApi(Build.VERSION_CODES.N) // http://b.android.com/213630
+  @RequiresApi(Build.VERSION_CODES.N)
+  @UiThread
+  public static <T extends View> void apply(@NonNull T view,
+      @NonNull IntProperty<? super T> property, int value) {
+    property.setValue(view, value);
+  }
+
   /** Simpler version of {@link View#findViewById(int)} which infers the target type. */
   @SuppressWarnings({ "unchecked", "UnusedDeclaration" }) // Checked by runtime cast. Public API.
   @CheckResult
@@ -376,4 +1004,29 @@ public final class ButterKnife {
   public static <T extends View> T findById(@NonNull Dialog dialog, @IdRes int id) {
     return (T) dialog.findViewById(id);
   }
+
+  /** Logs lookups for {@link #setDebug(boolean)}. */
+  private static final class LoggingEventListener extends EventListener {
+    @Override public void lookupStart(@NonNull Class<?> targetClass, long startNanos) {
+      Log.d(TAG, "Looking up binding for " + targetClass.getName());
+    }
+
+    @Override public void cacheHit(@NonNull Class<?> targetClass, @NonNull Class<?> cls,
+        boolean hasBinding, long elapsedNanos) {
+      Log.d(TAG, hasBinding ? "HIT: Cached in binding map." : "HIT: Cached as having no binding.");
+    }
+
+    @Override public void reflectionFallback(@NonNull Class<?> targetClass, @NonNull Class<?> cls,
+        boolean found, long durationNanos) {
+      Log.d(TAG, found
+          ? "HIT: Loaded binding class and factory."
+          : "Not found. Trying superclass " + cls.getSuperclass().getName());
+    }
+
+    @Override public void lookupEnd(@NonNull Class<?> targetClass, boolean hasBinding,
+        long durationNanos) {
+      Log.d(TAG, (hasBinding ? "Found" : "No") + " binding for " + targetClass.getName() + " in "
+          + durationNanos / 1000 + "us.");
+    }
+  }
 }
@@ -0,0 +1,45 @@
+package butterknife;
+
+import android.support.annotation.NonNull;
+import android.view.View;
+
+/** Reports {@link ButterKnife.EventListener#unbound} around a binding's {@link #unbind()}. */
+class EventUnbinder implements Unbinder {
+  /** Wraps {@code unbinder}, keeping it a {@link Rebinder} if it is one. */
+  static Unbinder wrap(Unbinder unbinder, Class<?> targetClass,
+      ButterKnife.EventListener listener) {
+    if (unbinder == Unbinder.EMPTY) {
+      return unbinder;
+    }
+    if (unbinder instanceof Rebinder) {
+      return new EventRebinder((Rebinder) unbinder, targetClass, listener);
+    }
+    return new EventUnbinder(unbinder, targetClass, listener);
+  }
+
+  final Unbinder delegate;
+  private final Class<?> targetClass;
+  private final ButterKnife.EventListener listener;
+
+  EventUnbinder(Unbinder delegate, Class<?> targetClass, ButterKnife.EventListener listener) {
+    this.delegate = delegate;
+    this.targetClass = targetClass;
+    this.listener = listener;
+  }
+
+  @Override public void unbind() {
+    long startNanos = System.nanoTime();
+    delegate.unbind();
+    listener.unbound(targetClass, System.nanoTime() - startNanos);
+  }
+
+  static final class EventRebinder extends EventUnbinder implements Rebinder {
+    EventRebinder(Rebinder delegate, Class<?> targetClass, ButterKnife.EventListener listener) {
+      super(delegate, targetClass, listener);
+    }
+
+    @Override public void rebind(@NonNull View source) {
+      ((Rebinder) delegate).rebind(source);
+    }
+  }
+}
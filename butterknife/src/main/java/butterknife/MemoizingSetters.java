@@ -0,0 +1,156 @@
+package butterknife;
+
+import android.support.annotation.NonNull;
+import android.view.View;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Setters which skip applying a value to a view which was last given an equal value. The last
+ * values of every memoizing setter are kept in one weak side table keyed by view, so that views
+ * can still be collected. Each view has a single small record of the setters which applied to it
+ * and their values, with primitive values stored as raw bits, so applying to an already seen view
+ * does not allocate.
+ */
+final class MemoizingSetters {
+  /** Last values by view. Setters are only applied on the main thread so this is not locked. */
+  private static final Map<View, Memo> MEMOS = new WeakHashMap<>();
+
+  /** The last values applied to one view, by the identity of the setter which applied them. */
+  private static final class Memo {
+    Object[] setters = new Object[2];
+    Object[] values = new Object[2];
+    /** Raw bits of primitive values. */
+    long[] bits = new long[2];
+    int size;
+
+    /** True if {@code setter} last applied a value equal to {@code value}. */
+    boolean hasValue(Object setter, Object value) {
+      int slot = indexOf(setter);
+      if (slot < 0) {
+        return false;
+      }
+      Object last = values[slot];
+      return last == null ? value == null : last.equals(value);
+    }
+
+    void setValue(Object setter, Object value) {
+      values[slotFor(setter)] = value;
+    }
+
+    /** True if {@code setter} last applied a primitive value with the raw {@code bits}. */
+    boolean hasBits(Object setter, long bits) {
+      int slot = indexOf(setter);
+      return slot >= 0 && this.bits[slot] == bits;
+    }
+
+    void setBits(Object setter, long bits) {
+      this.bits[slotFor(setter)] = bits;
+    }
+
+    private int indexOf(Object setter) {
+      for (int i = 0; i < size; i++) {
+        if (setters[i] == setter) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private int slotFor(Object setter) {
+      int slot = indexOf(setter);
+      if (slot >= 0) {
+        return slot;
+      }
+      if (size == setters.length) {
+        setters = Arrays.copyOf(setters, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+        bits = Arrays.copyOf(bits, size * 2);
+      }
+      setters[size] = setter;
+      return size++;
+    }
+  }
+
+  private static Memo memo(View view) {
+    Memo memo = MEMOS.get(view);
+    if (memo == null) {
+      memo = new Memo();
+      MEMOS.put(view, memo);
+    }
+    return memo;
+  }
+
+  static final class MemoizingSetter<T extends View, V> implements ButterKnife.Setter<T, V> {
+    private final ButterKnife.Setter<T, V> delegate;
+
+    MemoizingSetter(ButterKnife.Setter<T, V> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override public void set(@NonNull T view, V value, int index) {
+      Memo memo = memo(view);
+      if (!memo.hasValue(this, value)) {
+        delegate.set(view, value, index);
+        memo.setValue(this, value);
+      }
+    }
+  }
+
+  static final class MemoizingBooleanSetter<T extends View>
+      implements ButterKnife.BooleanSetter<T> {
+    private final ButterKnife.BooleanSetter<T> delegate;
+
+    MemoizingBooleanSetter(ButterKnife.BooleanSetter<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override public void set(@NonNull T view, boolean value, int index) {
+      Memo memo = memo(view);
+      long bits = value ? 1L : 0L;
+      if (!memo.hasBits(this, bits)) {
+        delegate.set(view, value, index);
+        memo.setBits(this, bits);
+      }
+    }
+  }
+
+  static final class MemoizingFloatSetter<T extends View> implements ButterKnife.FloatSetter<T> {
+    private final ButterKnife.FloatSetter<T> delegate;
+
+    MemoizingFloatSetter(ButterKnife.FloatSetter<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override public void set(@NonNull T view, float value, int index) {
+      Memo memo = memo(view);
+      // Compare bits so that NaN is equal to itself.
+      long bits = Float.floatToIntBits(value);
+      if (!memo.hasBits(this, bits)) {
+        delegate.set(view, value, index);
+        memo.setBits(this, bits);
+      }
+    }
+  }
+
+  static final class MemoizingIntSetter<T extends View> implements ButterKnife.IntSetter<T> {
+    private final ButterKnife.IntSetter<T> delegate;
+
+    MemoizingIntSetter(ButterKnife.IntSetter<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override public void set(@NonNull T view, int value, int index) {
+      Memo memo = memo(view);
+      if (!memo.hasBits(this, value)) {
+        delegate.set(view, value, index);
+        memo.setBits(this, value);
+      }
+    }
+  }
+
+  private MemoizingSetters() {
+    throw new AssertionError("No instances.");
+  }
+}
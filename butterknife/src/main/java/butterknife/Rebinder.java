@@ -0,0 +1,18 @@
+package butterknife;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.UiThread;
+import android.view.View;
+
+/**
+ * An unbinder which can also move its bindings to a new view hierarchy. Generated bindings
+ * implement this interface when the {@code butterknife.rebindable} annotation processor option is
+ * true.
+ */
+public interface Rebinder extends Unbinder {
+  /**
+   * Find the bound views again in {@code source} and move the existing listeners to them. Views
+   * and listeners in the previous hierarchy are released. Resource bindings are not repeated.
+   */
+  @UiThread void rebind(@NonNull View source);
+}
@@ -0,0 +1,22 @@
+package butterknife;
+
+import android.content.Context;
+import android.support.annotation.AnyThread;
+import android.support.annotation.NonNull;
+import android.view.View;
+
+/**
+ * Creates the generated binding for instances of {@code T} which only bind resources. These need
+ * a {@link Context} rather than a view and, unlike bindings of views, may be created on any thread.
+ *
+ * @see ButterKnife#bindResources(Object, Context)
+ */
+public abstract class ResourceBindingFactory<T> implements BindingFactory<T> {
+  /** Bind the resources of {@code target} using {@code context} to load them. */
+  @NonNull @AnyThread
+  public abstract Unbinder create(@NonNull T target, @NonNull Context context);
+
+  @NonNull @Override public final Unbinder create(@NonNull T target, @NonNull View source) {
+    return create(target, source.getContext());
+  }
+}
@@ -0,0 +1,135 @@
+package butterknife;
+
+import android.support.annotation.IdRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable group of views keyed by their ID. A view can be found by its ID in constant time
+ * and the views are iterated in the order their IDs were given.
+ * <pre><code>
+ * {@literal @}BindViews({R.id.first_name, R.id.last_name}) ViewsById&lt;EditText&gt; nameViews;
+ *
+ * nameViews.get(R.id.last_name).requestFocus();
+ * </code></pre>
+ * Optional views which were not found are left out.
+ */
+public final class ViewsById<T> implements Iterable<T> {
+  /** Group {@code views} by the ID at the same position in {@code ids}. Null views are skipped. */
+  @SafeVarargs @NonNull
+  public static <T> ViewsById<T> of(@NonNull int[] ids, @NonNull T... views) {
+    if (ids.length != views.length) {
+      throw new IllegalArgumentException(
+          "Expected one view per ID but got " + views.length + " for " + ids.length + " IDs.");
+    }
+    int count = 0;
+    for (T view : views) {
+      if (view != null) {
+        count++;
+      }
+    }
+    int[] keptIds = new int[count];
+    Object[] keptViews = new Object[count];
+    for (int i = 0, kept = 0; i < views.length; i++) {
+      if (views[i] != null) {
+        keptIds[kept] = ids[i];
+        keptViews[kept++] = views[i];
+      }
+    }
+    return new ViewsById<>(keptIds, keptViews);
+  }
+
+  private final int[] ids;
+  private final Object[] views;
+  /** Open-addressed table of positions plus one, indexed by the hash of their ID. Zero is empty. */
+  private final int[] slots;
+
+  private ViewsById(int[] ids, Object[] views) {
+    this.ids = ids;
+    this.views = views;
+
+    // Keep the table at most half full so that probes stay short.
+    int capacity = Integer.highestOneBit(Math.max(1, ids.length) * 2 - 1) << 1;
+    slots = new int[capacity];
+    int mask = capacity - 1;
+    for (int i = 0; i < ids.length; i++) {
+      int slot = hash(ids[i]) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = i + 1;
+    }
+  }
+
+  private static int hash(int id) {
+    int h = id * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /** The number of views. */
+  public int size() {
+    return ids.length;
+  }
+
+  /** Returns the view with {@code id}, or null if there is none. */
+  @Nullable
+  public T get(@IdRes int id) {
+    int index = indexOfId(id);
+    return index >= 0 ? valueAt(index) : null;
+  }
+
+  /** Returns true if there is a view with {@code id}. */
+  public boolean containsId(@IdRes int id) {
+    return indexOfId(id) >= 0;
+  }
+
+  /** Returns the position of the view with {@code id}, or -1 if there is none. */
+  public int indexOfId(@IdRes int id) {
+    int mask = slots.length - 1;
+    for (int slot = hash(id) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+      int index = slots[slot] - 1;
+      if (ids[index] == id) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /** Returns the ID of the view at {@code index}. */
+  @IdRes
+  public int idAt(int index) {
+    if (index < 0 || index >= ids.length) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + ids.length);
+    }
+    return ids[index];
+  }
+
+  /** Returns the view at {@code index}. Unlike iterating, this does not allocate. */
+  @SuppressWarnings("unchecked") // Only views of type T are stored.
+  public T valueAt(int index) {
+    return (T) views[index];
+  }
+
+  @Override public Iterator<T> iterator() {
+    return new Iterator<T>() {
+      private int index;
+
+      @Override public boolean hasNext() {
+        return index < views.length;
+      }
+
+      @Override public T next() {
+        if (index >= views.length) {
+          throw new NoSuchElementException();
+        }
+        return valueAt(index++);
+      }
+
+      @Override public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+}
@@ -0,0 +1,180 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.DimenRes;
+import android.support.annotation.DrawableRes;
+import android.support.v4.util.LruCache;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Decodes bitmap resources at the size they are displayed and shares them between bindings. Used
+ * by {@code @BindBitmap} fields which request a size or asynchronous decoding.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class Bitmaps {
+  /** Receives a decoded bitmap on the main thread. */
+  public interface Callback {
+    void onBitmapDecoded(Bitmap bitmap);
+  }
+
+  /**
+   * A delivery to a {@link Callback}. Cancelling it releases the callback so that neither it nor
+   * anything it references is kept until the decode completes.
+   */
+  public static final class Request {
+    private volatile Callback callback;
+
+    Request(Callback callback) {
+      this.callback = callback;
+    }
+
+    /** Prevents delivery if it has not happened yet. Must be called on the main thread. */
+    public void cancel() {
+      callback = null;
+    }
+
+    void deliver(Bitmap bitmap) {
+      Callback callback = this.callback;
+      if (callback != null) {
+        this.callback = null;
+        callback.onBitmapDecoded(bitmap);
+      }
+    }
+  }
+
+  private static final LruCache<String, Bitmap> CACHE =
+      new LruCache<String, Bitmap>((int) (Runtime.getRuntime().maxMemory() / 1024 / 8)) {
+        @Override protected int sizeOf(String key, Bitmap value) {
+          return kilobytes(value.getRowBytes() * value.getHeight());
+        }
+      };
+
+  /** Created lazily so that bindings which never decode asynchronously do not start a thread. */
+  private static final class Background {
+    static final Handler MAIN = new Handler(Looper.getMainLooper());
+    static final Executor EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      @Override public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "ButterKnife-Bitmaps");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+
+  /**
+   * Returns the bitmap for {@code id} sampled to cover {@code widthId} by {@code heightId}. Either
+   * dimension may be 0 to leave it unbounded.
+   */
+  public static Bitmap decode(Context context, @DrawableRes int id, @DimenRes int widthId,
+      @DimenRes int heightId) {
+    Resources res = context.getResources();
+    int width = widthId != 0 ? res.getDimensionPixelSize(widthId) : 0;
+    int height = heightId != 0 ? res.getDimensionPixelSize(heightId) : 0;
+    String key = key(res, id, width, height);
+    Bitmap bitmap = CACHE.get(key);
+    if (bitmap == null) {
+      bitmap = decode(res, id, width, height);
+      CACHE.put(key, bitmap);
+    }
+    return bitmap;
+  }
+
+  /**
+   * Delivers the bitmap for {@code id} to {@code callback} on the main thread. When called on the
+   * main thread, a bitmap which is already cached is delivered before this method returns so that
+   * it is shown without waiting for a frame. Otherwise delivery is always posted, and is skipped
+   * if the returned request is cancelled first.
+   */
+  public static Request decodeAsync(Context context, @DrawableRes final int id,
+      @DimenRes int widthId, @DimenRes int heightId, Callback callback) {
+    final Request request = new Request(callback);
+    final Resources res = context.getResources();
+    final int width = widthId != 0 ? res.getDimensionPixelSize(widthId) : 0;
+    final int height = heightId != 0 ? res.getDimensionPixelSize(heightId) : 0;
+    final String key = key(res, id, width, height);
+    final Bitmap cached = CACHE.get(key);
+    if (cached != null) {
+      if (Looper.myLooper() == Looper.getMainLooper()) {
+        request.deliver(cached);
+      } else {
+        Background.MAIN.post(new Runnable() {
+          @Override public void run() {
+            request.deliver(cached);
+          }
+        });
+      }
+      return request;
+    }
+    Background.EXECUTOR.execute(new Runnable() {
+      @Override public void run() {
+        final Bitmap bitmap = decode(res, id, width, height);
+        CACHE.put(key, bitmap);
+        Background.MAIN.post(new Runnable() {
+          @Override public void run() {
+            request.deliver(bitmap);
+          }
+        });
+      }
+    });
+    return request;
+  }
+
+  /** Removes every cached bitmap. */
+  public static void clear() {
+    CACHE.evictAll();
+  }
+
+  /** The cache weight of {@code bytes}, rounded up so that no bitmap is free to keep. */
+  static int kilobytes(int bytes) {
+    return Math.max(1, (bytes + 1023) / 1024);
+  }
+
+  private static String key(Resources res, int id, int width, int height) {
+    return id + ":" + res.getDisplayMetrics().densityDpi + ":" + width + "x" + height;
+  }
+
+  private static Bitmap decode(Resources res, int id, int width, int height) {
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    if (width != 0 || height != 0) {
+      options.inJustDecodeBounds = true;
+      BitmapFactory.decodeResource(res, id, options);
+      options.inJustDecodeBounds = false;
+      options.inSampleSize =
+          sampleSize(options.outWidth, options.outHeight, width, height);
+    }
+    Bitmap bitmap = BitmapFactory.decodeResource(res, id, options);
+    if (bitmap == null) {
+      throw new Resources.NotFoundException("Resource ID #0x" + Integer.toHexString(id)
+          + " could not be decoded as a bitmap");
+    }
+    return bitmap;
+  }
+
+  /**
+   * The largest power of two by which a {@code width} by {@code height} image can be divided while
+   * still covering {@code requiredWidth} by {@code requiredHeight}. A required dimension of 0 is
+   * unbounded.
+   */
+  static int sampleSize(int width, int height, int requiredWidth, int requiredHeight) {
+    if (requiredWidth == 0 && requiredHeight == 0) {
+      return 1;
+    }
+    int sampleSize = 1;
+    while ((requiredWidth == 0 || width / (sampleSize * 2) >= requiredWidth)
+        && (requiredHeight == 0 || height / (sampleSize * 2) >= requiredHeight)) {
+      sampleSize *= 2;
+    }
+    return sampleSize;
+  }
+
+  private Bitmaps() {
+    throw new AssertionError("No instances.");
+  }
+}
@@ -1,24 +1,49 @@
 package butterknife.internal;
 
+import android.os.SystemClock;
 import android.view.View;
 
 /**
- * A {@linkplain View.OnClickListener click listener} that debounces multiple clicks posted in the
- * same frame. A click on one button disables all buttons for that frame.
+ * A {@linkplain View.OnClickListener click listener} that ignores clicks which closely follow
+ * another. A click on any listener sharing this listener's {@link Scope} ignores further clicks on
+ * all of them until {@linkplain #setWindowMillis(long) the debounce window} has elapsed. By default
+ * all listeners share a single scope so a click on one button disables all buttons.
  */
 public abstract class DebouncingOnClickListener implements View.OnClickListener {
-  static boolean enabled = true;
+  /** Roughly one frame, to ignore the other clicks which are delivered along with a click. */
+  public static final long DEFAULT_WINDOW_MILLIS = 16;
 
-  private static final Runnable ENABLE_AGAIN = new Runnable() {
-    @Override public void run() {
-      enabled = true;
-    }
-  };
+  private static final Scope GLOBAL = new Scope();
+  /** May be changed from any thread while clicks are delivered on the main thread. */
+  static volatile long windowMillis = DEFAULT_WINDOW_MILLIS;
+
+  /** Listeners whose clicks are debounced together. */
+  public static final class Scope {
+    long nextClickMillis;
+  }
+
+  /** Set the time after a click during which further clicks in the same scope are ignored. */
+  public static void setWindowMillis(long windowMillis) {
+    if (windowMillis < 0) throw new IllegalArgumentException("windowMillis < 0");
+    DebouncingOnClickListener.windowMillis = windowMillis;
+  }
+
+  private final Scope scope;
+
+  /** Debounce clicks together with every other listener created with this constructor. */
+  public DebouncingOnClickListener() {
+    this(GLOBAL);
+  }
+
+  /** Debounce clicks together with other listeners created with {@code scope}. */
+  public DebouncingOnClickListener(Scope scope) {
+    this.scope = scope;
+  }
 
   @Override public final void onClick(View v) {
-    if (enabled) {
-      enabled = false;
-      v.post(ENABLE_AGAIN);
+    long now = SystemClock.uptimeMillis();
+    if (now >= scope.nextClickMillis) {
+      scope.nextClickMillis = now + windowMillis;
       doClick(v);
     }
   }
@@ -9,22 +9,28 @@ import java.util.RandomAccess;
  */
 final class ImmutableList<T> extends AbstractList<T> implements RandomAccess {
   private final T[] views;
+  private final int size;
 
-  ImmutableList(T[] views) {
+  /** Wraps the first {@code size} elements of {@code views}. */
+  ImmutableList(T[] views, int size) {
     this.views = views;
+    this.size = size;
   }
 
   @Override public T get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
     return views[index];
   }
 
   @Override public int size() {
-    return views.length;
+    return size;
   }
 
   @Override public boolean contains(Object o) {
-    for (T view : views) {
-      if (view == o) {
+    for (int i = 0; i < size; i++) {
+      if (views[i] == o) {
         return true;
       }
     }
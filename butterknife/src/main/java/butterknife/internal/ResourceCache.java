@@ -0,0 +1,205 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.support.annotation.BoolRes;
+import android.support.annotation.ColorRes;
+import android.support.annotation.DimenRes;
+import android.support.annotation.IntegerRes;
+import android.support.annotation.StringRes;
+import android.support.v4.content.ContextCompat;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A process-wide cache of resource values read by generated bindings when the
+ * {@code butterknife.cacheResources} annotation processor option is set. Values are resolved once
+ * per ID and kept in tables specialized for their type, so binding many instances of the same
+ * class, such as list item view holders, does not resolve the same values again.
+ * <p>
+ * Values are kept separately for each {@link Resources} instance, so contexts with different
+ * configurations, such as an activity and a dialog with its own theme, do not evict each other.
+ * The values of a {@code Resources} are cleared the first time one is requested after its
+ * {@link Configuration} has been updated in place, such as after a locale change. Color resources
+ * are assumed not to depend on the theme.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class ResourceCache {
+  /** Values by the resources they were read from. Guarded by itself. */
+  private static final Map<Resources, Values> VALUES = new WeakHashMap<>();
+  /** The values most recently read, so that repeated reads from one context skip the map. */
+  private static volatile Values last;
+
+  public static int getColor(Context context, @ColorRes int id) {
+    return values(context.getResources()).getColor(context, id);
+  }
+
+  public static int getDimensionPixelSize(Context context, @DimenRes int id) {
+    return values(context.getResources()).getDimensionPixelSize(context.getResources(), id);
+  }
+
+  public static int getInteger(Context context, @IntegerRes int id) {
+    return values(context.getResources()).getInteger(context.getResources(), id);
+  }
+
+  public static float getDimension(Context context, @DimenRes int id) {
+    return values(context.getResources()).getDimension(context.getResources(), id);
+  }
+
+  public static float getFloat(Context context, @DimenRes int id) {
+    return values(context.getResources()).getFloat(context, id);
+  }
+
+  public static boolean getBoolean(Context context, @BoolRes int id) {
+    return values(context.getResources()).getBoolean(context.getResources(), id);
+  }
+
+  public static String getString(Context context, @StringRes int id) {
+    return values(context.getResources()).getString(context.getResources(), id);
+  }
+
+  /** Clears every table. Values are resolved again the next time they are requested. */
+  public static void clear() {
+    synchronized (VALUES) {
+      VALUES.clear();
+      last = null;
+    }
+  }
+
+  private static Values values(Resources res) {
+    Values values = last;
+    if (values != null && values.resources.get() == res) {
+      return values;
+    }
+    synchronized (VALUES) {
+      values = VALUES.get(res);
+      if (values == null) {
+        values = new Values(res);
+        VALUES.put(res, values);
+      }
+      last = values;
+    }
+    return values;
+  }
+
+  /** The values read from one {@link Resources}. Each read holds only this instance's lock. */
+  private static final class Values {
+    final WeakReference<Resources> resources;
+    private Configuration configuration;
+
+    private final SparseIntArray colors = new SparseIntArray();
+    private final SparseIntArray dimensionPixelSizes = new SparseIntArray();
+    private final SparseIntArray integers = new SparseIntArray();
+    /** Raw int bits of float values. */
+    private final SparseIntArray dimensions = new SparseIntArray();
+    /** Raw int bits of float values. */
+    private final SparseIntArray floats = new SparseIntArray();
+    private final SparseBooleanArray booleans = new SparseBooleanArray();
+    private final SparseArray<String> strings = new SparseArray<>();
+
+    Values(Resources res) {
+      resources = new WeakReference<>(res);
+    }
+
+    synchronized int getColor(Context context, @ColorRes int id) {
+      validate(context.getResources());
+      int index = colors.indexOfKey(id);
+      if (index >= 0) {
+        return colors.valueAt(index);
+      }
+      int value = ContextCompat.getColor(context, id);
+      colors.put(id, value);
+      return value;
+    }
+
+    synchronized int getDimensionPixelSize(Resources res, @DimenRes int id) {
+      validate(res);
+      int index = dimensionPixelSizes.indexOfKey(id);
+      if (index >= 0) {
+        return dimensionPixelSizes.valueAt(index);
+      }
+      int value = res.getDimensionPixelSize(id);
+      dimensionPixelSizes.put(id, value);
+      return value;
+    }
+
+    synchronized int getInteger(Resources res, @IntegerRes int id) {
+      validate(res);
+      int index = integers.indexOfKey(id);
+      if (index >= 0) {
+        return integers.valueAt(index);
+      }
+      int value = res.getInteger(id);
+      integers.put(id, value);
+      return value;
+    }
+
+    synchronized float getDimension(Resources res, @DimenRes int id) {
+      validate(res);
+      int index = dimensions.indexOfKey(id);
+      if (index >= 0) {
+        return Float.intBitsToFloat(dimensions.valueAt(index));
+      }
+      float value = res.getDimension(id);
+      dimensions.put(id, Float.floatToRawIntBits(value));
+      return value;
+    }
+
+    synchronized float getFloat(Context context, @DimenRes int id) {
+      validate(context.getResources());
+      int index = floats.indexOfKey(id);
+      if (index >= 0) {
+        return Float.intBitsToFloat(floats.valueAt(index));
+      }
+      float value = Utils.getFloat(context, id);
+      floats.put(id, Float.floatToRawIntBits(value));
+      return value;
+    }
+
+    synchronized boolean getBoolean(Resources res, @BoolRes int id) {
+      validate(res);
+      int index = booleans.indexOfKey(id);
+      if (index >= 0) {
+        return booleans.valueAt(index);
+      }
+      boolean value = res.getBoolean(id);
+      booleans.put(id, value);
+      return value;
+    }
+
+    synchronized String getString(Resources res, @StringRes int id) {
+      validate(res);
+      String value = strings.get(id);
+      if (value == null) {
+        value = res.getString(id);
+        strings.put(id, value);
+      }
+      return value;
+    }
+
+    /** Clears every table if the configuration of {@code res} was updated since it was read. */
+    private void validate(Resources res) {
+      Configuration current = res.getConfiguration();
+      if (configuration == null || !configuration.equals(current)) {
+        // Resources updates its configuration in place so a copy must be kept for comparison.
+        configuration = new Configuration(current);
+        colors.clear();
+        dimensionPixelSizes.clear();
+        integers.clear();
+        dimensions.clear();
+        floats.clear();
+        booleans.clear();
+        strings.clear();
+      }
+    }
+  }
+
+  private ResourceCache() {
+    throw new AssertionError("No instances.");
+  }
+}
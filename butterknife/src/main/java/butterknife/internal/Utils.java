@@ -1,28 +1,52 @@
 package butterknife.internal;
 
+import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.Resources;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.os.Trace;
 import android.support.annotation.AttrRes;
 import android.support.annotation.DimenRes;
 import android.support.annotation.DrawableRes;
 import android.support.annotation.IdRes;
-import android.support.annotation.UiThread;
 import android.support.v4.content.ContextCompat;
 import android.support.v4.graphics.drawable.DrawableCompat;
+import android.util.SparseArray;
 import android.util.TypedValue;
 import android.view.View;
+import android.view.ViewGroup;
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 @SuppressWarnings("WeakerAccess") // Used by generated code.
 public final class Utils {
-  private static final TypedValue VALUE = new TypedValue();
+  private static final int MAX_SECTION_NAME_LENGTH = 127;
+  /** Scratch values for resolving resources, one per thread so that no lock is needed. */
+  private static final ThreadLocal<TypedValue> VALUE = new ThreadLocal<TypedValue>() {
+    @Override protected TypedValue initialValue() {
+      return new TypedValue();
+    }
+  };
+  /** Tinted drawable states by theme, drawable resource ID and then tint color. */
+  private static final Map<Resources.Theme, SparseArray<SparseArray<Drawable.ConstantState>>>
+      TINTED_STATES = new WeakHashMap<>();
 
-  @UiThread // Implicit synchronization for use of shared resource VALUE.
+  /**
+   * Returns a drawable for {@code id} tinted with the color referenced by {@code tintAttrId} in
+   * the context's theme. The first drawable created for each theme, drawable and color is mutated
+   * and tinted, and its constant state cached. Every drawable returned, including the first, is
+   * created from that state and then mutated so that no binding holds the cached state and each
+   * can change its own drawable as before.
+   */
   public static Drawable getTintedDrawable(Context context,
       @DrawableRes int id, @AttrRes int tintAttrId) {
-    boolean attributeFound = context.getTheme().resolveAttribute(tintAttrId, VALUE, true);
+    Resources.Theme theme = context.getTheme();
+    TypedValue value = VALUE.get();
+    boolean attributeFound = theme.resolveAttribute(tintAttrId, value, true);
     if (!attributeFound) {
       throw new Resources.NotFoundException("Required tint color attribute with name "
           + context.getResources().getResourceEntryName(tintAttrId)
@@ -30,17 +54,50 @@ public final class Utils {
           + tintAttrId
           + " was not found.");
     }
+    int color = ContextCompat.getColor(context, value.resourceId);
+
+    SparseArray<SparseArray<Drawable.ConstantState>> themeStates;
+    synchronized (TINTED_STATES) {
+      themeStates = TINTED_STATES.get(theme);
+      if (themeStates == null) {
+        themeStates = new SparseArray<>();
+        TINTED_STATES.put(theme, themeStates);
+      }
+      SparseArray<Drawable.ConstantState> colorStates = themeStates.get(id);
+      Drawable.ConstantState state = colorStates != null ? colorStates.get(color) : null;
+      if (state != null) {
+        return newDrawable(context, state);
+      }
+    }
 
     Drawable drawable = ContextCompat.getDrawable(context, id);
     drawable = DrawableCompat.wrap(drawable.mutate());
-    int color = ContextCompat.getColor(context, VALUE.resourceId);
     DrawableCompat.setTint(drawable, color);
+
+    Drawable.ConstantState state = drawable.getConstantState();
+    if (state != null) {
+      synchronized (TINTED_STATES) {
+        SparseArray<Drawable.ConstantState> colorStates = themeStates.get(id);
+        if (colorStates == null) {
+          colorStates = new SparseArray<>();
+          themeStates.put(id, colorStates);
+        }
+        colorStates.put(color, state);
+      }
+      return newDrawable(context, state);
+    }
     return drawable;
   }
 
-  @UiThread // Implicit synchronization for use of shared resource VALUE.
+  private static Drawable newDrawable(Context context, Drawable.ConstantState state) {
+    Drawable drawable = Build.VERSION.SDK_INT >= 21
+        ? state.newDrawable(context.getResources(), context.getTheme())
+        : state.newDrawable(context.getResources());
+    return drawable.mutate();
+  }
+
   public static float getFloat(Context context, @DimenRes int id) {
-    TypedValue value = VALUE;
+    TypedValue value = VALUE.get();
     context.getResources().getValue(id, value, true);
     if (value.type == TypedValue.TYPE_FLOAT) {
       return value.getFloat();
@@ -49,32 +106,56 @@ public final class Utils {
         + " type #0x" + Integer.toHexString(value.type) + " is not valid");
   }
 
+  /**
+   * Begins a trace section named {@code name}, truncated to the length allowed by
+   * {@link Trace}. Does nothing before API 18.
+   */
+  @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+  public static void beginSection(String name) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+      Trace.beginSection(name.length() > MAX_SECTION_NAME_LENGTH
+          ? name.substring(0, MAX_SECTION_NAME_LENGTH)
+          : name);
+    }
+  }
+
+  /** Ends the trace section most recently begun on this thread. Does nothing before API 18. */
+  @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+  public static void endSection() {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+      Trace.endSection();
+    }
+  }
+
+  /** Returns {@code views} without nulls. Only allocates a new array if there were any. */
   @SafeVarargs
   public static <T> T[] arrayOf(T... views) {
-    return filterNull(views);
+    int count = compact(views);
+    return count == views.length ? views : Arrays.copyOf(views, count);
   }
 
+  /** Returns {@code views} without nulls. The array is compacted in place and wrapped as is. */
   @SafeVarargs
   public static <T> List<T> listOf(T... views) {
-    return new ImmutableList<>(filterNull(views));
+    return new ImmutableList<>(views, compact(views));
   }
 
-  private static <T> T[] filterNull(T[] views) {
+  /** Returns {@code views}, none of which may be null, as a list. */
+  @SafeVarargs
+  public static <T> List<T> listOfRequired(T... views) {
+    return new ImmutableList<>(views, views.length);
+  }
+
+  /** Moves the non-null views to the front of {@code views} and returns how many there are. */
+  private static <T> int compact(T[] views) {
     int end = 0;
-    int length = views.length;
-    for (int i = 0; i < length; i++) {
+    for (int i = 0, length = views.length; i < length; i++) {
       T view = views[i];
       if (view != null) {
         views[end++] = view;
       }
     }
-    if (end == length) {
-      return views;
-    }
-    //noinspection unchecked
-    T[] newViews = (T[]) Array.newInstance(views.getClass().getComponentType(), end);
-    System.arraycopy(views, 0, newViews, 0, end);
-    return newViews;
+    return end;
   }
 
   public static <T> T findOptionalViewAsType(View source, @IdRes int id, String who,
@@ -105,6 +186,88 @@ public final class Utils {
     return castView(view, id, who, cls);
   }
 
+  public static <T> T findOptionalViewAsType(ViewFinder finder, @IdRes int id, String who,
+      Class<T> cls) {
+    View view = finder.findViewById(id);
+    return castView(view, id, who, cls);
+  }
+
+  public static View findRequiredView(ViewFinder finder, @IdRes int id, String who) {
+    View view = finder.findViewById(id);
+    if (view != null) {
+      return view;
+    }
+    return findRequiredView(finder.getSource(), id, who);
+  }
+
+  public static <T> T findRequiredViewAsType(ViewFinder finder, @IdRes int id, String who,
+      Class<T> cls) {
+    View view = findRequiredView(finder, id, who);
+    return castView(view, id, who, cls);
+  }
+
+  public static <T> T[] findRequiredChildren(View source, @IdRes int id, String who,
+      Class<T> cls) {
+    View group = findRequiredView(source, id, who);
+    return childrenOf(group, id, who, cls);
+  }
+
+  public static <T> T[] findOptionalChildren(View source, @IdRes int id, String who,
+      Class<T> cls) {
+    View group = source.findViewById(id);
+    return childrenOf(group, id, who, cls);
+  }
+
+  public static <T> T[] findRequiredChildren(ViewFinder finder, @IdRes int id, String who,
+      Class<T> cls) {
+    View group = findRequiredView(finder, id, who);
+    return childrenOf(group, id, who, cls);
+  }
+
+  public static <T> T[] findOptionalChildren(ViewFinder finder, @IdRes int id, String who,
+      Class<T> cls) {
+    View group = finder.findViewById(id);
+    return childrenOf(group, id, who, cls);
+  }
+
+  /**
+   * Returns the direct children of {@code group} which are instances of {@code cls}, in order. A
+   * missing group has no children.
+   */
+  private static <T> T[] childrenOf(View group, @IdRes int id, String who, Class<T> cls) {
+    if (group == null) {
+      //noinspection unchecked
+      return (T[]) Array.newInstance(cls, 0);
+    }
+    if (!(group instanceof ViewGroup)) {
+      String name = getResourceEntryName(group, id);
+      throw new IllegalStateException("View '"
+          + name
+          + "' with ID "
+          + id
+          + " for "
+          + who
+          + " must be a ViewGroup to bind its children.");
+    }
+    ViewGroup parent = (ViewGroup) group;
+    int childCount = parent.getChildCount();
+    int count = 0;
+    for (int i = 0; i < childCount; i++) {
+      if (cls.isInstance(parent.getChildAt(i))) {
+        count++;
+      }
+    }
+    //noinspection unchecked
+    T[] children = (T[]) Array.newInstance(cls, count);
+    for (int i = 0, end = 0; end < count; i++) {
+      View child = parent.getChildAt(i);
+      if (cls.isInstance(child)) {
+        children[end++] = cls.cast(child);
+      }
+    }
+    return children;
+  }
+
   public static <T> T castView(View view, @IdRes int id, String who, Class<T> cls) {
     try {
       return cls.cast(view);
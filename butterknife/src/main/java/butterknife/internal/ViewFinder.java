@@ -0,0 +1,159 @@
+package butterknife.internal;
+
+import android.support.annotation.AnyThread;
+import android.support.annotation.IdRes;
+import android.view.View;
+import android.view.ViewGroup;
+import java.util.Arrays;
+
+/**
+ * Finds every view for a set of IDs in a single traversal of a hierarchy instead of one
+ * {@link View#findViewById(int) findViewById} traversal per ID. As with {@code findViewById}, the
+ * first view in depth-first order wins when an ID occurs more than once.
+ * <p>
+ * The child index path to each view is remembered in its {@link IdSet}. Subsequent finders for
+ * the same set, such as those of a view holder binding many identical item layouts, follow those
+ * paths directly. If the view at the end of any path does not have the expected ID, the hierarchy
+ * is traversed and the paths recorded again. IDs which were not found, such as those of optional
+ * views, have no path and are searched for again in every hierarchy, since they may be present in
+ * one built from another layout.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class ViewFinder {
+  /** The IDs found by a binding class, and the paths at which they were last found. */
+  public static final class IdSet {
+    final int[] ids;
+    /**
+     * Paths from the source to the view for each ID, with null for IDs which were not found, or
+     * null if no path is known.
+     */
+    volatile int[][] paths;
+
+    IdSet(int[] ids) {
+      this.ids = ids;
+    }
+  }
+
+  /** Returns an {@link IdSet} for {@code ids}. Duplicate IDs are ignored. */
+  public static IdSet idSet(@IdRes int... ids) {
+    int[] sorted = ids.clone();
+    Arrays.sort(sorted);
+    int end = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[end - 1]) {
+        sorted[end++] = sorted[i];
+      }
+    }
+    return new IdSet(end == sorted.length ? sorted : Arrays.copyOf(sorted, end));
+  }
+
+  private final View source;
+  private final int[] ids;
+  private final View[] views;
+  private int remaining;
+  private int[] path;
+  private int[][] recordedPaths;
+
+  /**
+   * Finds the views of {@code idSet} in {@code source}. Asynchronous bindings call this on a
+   * background thread, which is only safe while nothing mutates the hierarchy, such as a view
+   * which was inflated off the main thread and is not yet attached to a window.
+   */
+  @AnyThread
+  public ViewFinder(View source, IdSet idSet) {
+    this.source = source;
+    this.ids = idSet.ids;
+    this.views = new View[ids.length];
+
+    int[][] paths = idSet.paths;
+    if (paths != null && follow(paths)) {
+      if (remaining > 0) {
+        // IDs without a path were missing from an earlier hierarchy but may be in this one.
+        int missing = remaining;
+        search(paths.clone());
+        if (remaining < missing) {
+          idSet.paths = recordedPaths;
+        }
+      }
+    } else {
+      Arrays.fill(views, null);
+      remaining = ids.length;
+      search(new int[ids.length][]);
+      // Paths which all lead nowhere cannot tell one hierarchy from another.
+      idSet.paths = remaining < ids.length ? recordedPaths : null;
+    }
+    path = null;
+    recordedPaths = null;
+  }
+
+  /** Follows {@code paths}, counting IDs without one as remaining. */
+  private boolean follow(int[][] paths) {
+    for (int i = 0; i < ids.length; i++) {
+      int[] path = paths[i];
+      if (path == null) {
+        remaining++;
+        continue;
+      }
+      View view = source;
+      for (int childIndex : path) {
+        if (!(view instanceof ViewGroup)) {
+          return false;
+        }
+        ViewGroup group = (ViewGroup) view;
+        if (childIndex >= group.getChildCount()) {
+          return false;
+        }
+        view = group.getChildAt(childIndex);
+      }
+      if (view.getId() != ids[i]) {
+        return false;
+      }
+      views[i] = view;
+    }
+    return true;
+  }
+
+  /** Traverses the source for the remaining IDs, recording their paths in {@code paths}. */
+  private void search(int[][] paths) {
+    path = new int[8];
+    recordedPaths = paths;
+    collect(source, 0);
+  }
+
+  private void collect(View view, int depth) {
+    int id = view.getId();
+    if (id != View.NO_ID) {
+      int index = Arrays.binarySearch(ids, id);
+      if (index >= 0 && views[index] == null) {
+        views[index] = view;
+        recordedPaths[index] = Arrays.copyOf(path, depth);
+        remaining--;
+      }
+    }
+    if (view instanceof ViewGroup) {
+      if (depth == path.length) {
+        path = Arrays.copyOf(path, depth * 2);
+      }
+      ViewGroup group = (ViewGroup) view;
+      for (int i = 0, count = group.getChildCount(); i < count && remaining > 0; i++) {
+        path[depth] = i;
+        collect(group.getChildAt(i), depth + 1);
+      }
+    }
+  }
+
+  /** The view whose hierarchy was searched. */
+  public View getSource() {
+    return source;
+  }
+
+  /** Returns the view with {@code id}, or null if there is none in the hierarchy. */
+  public View findViewById(@IdRes int id) {
+    int index = Arrays.binarySearch(ids, id);
+    if (index < 0) {
+      // Not part of the traversal. Look it up directly rather than fail.
+      return source.findViewById(id);
+    }
+    return views[index];
+  }
+}
@@ -0,0 +1,253 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class AsyncBindTest {
+  @Test public void bindingIsSplitIntoPhases() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindString;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.BindViews;\n"
+        + "import butterknife.OnClick;\n"
+        + "import butterknife.Optional;\n"
+        + "import java.util.List;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindView(1) TextView one;\n"
+        + "  @BindViews({2, 3}) List<View> views;\n"
+        + "  @BindString(4) String four;\n"
+        + "  @OnClick(1) void click() {}\n"
+        + "  @Optional @OnClick(5) void optionalClick() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import android.support.annotation.UiThread;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.AsyncBindingFactory;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.String;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "import java.util.List;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new AsyncBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public AsyncBindingFactory.PreparedBinding prepare(final Test target, View source) {\n"
+        + "      final Test_ViewBinding binding = new Test_ViewBinding(source);\n"
+        + "      return new AsyncBindingFactory.PreparedBinding() {\n"
+        + "        @Override\n"
+        + "        public Unbinder publish() {\n"
+        + "          binding.publish(target);\n"
+        + "          return binding;\n"
+        + "        }\n"
+        + "      };\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private View view5;\n"
+        + "  private TextView pendingOne;\n"
+        + "  private List<View> pendingViews;\n"
+        + "  private String pendingFour;\n"
+        + "  @UiThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"field 'one' and method 'click'\");\n"
+        + "    target.one = Utils.castView(view, 1, \"field 'one'\", TextView.class);\n"
+        + "    view1 = view;\n"
+        + "    view.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.click();\n"
+        + "      }\n"
+        + "    });\n"
+        + "    view = source.findViewById(5);\n"
+        + "    if (view != null) {\n"
+        + "      view5 = view;\n"
+        + "      view.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "        @Override\n"
+        + "        public void doClick(View p0) {\n"
+        + "          target.optionalClick();\n"
+        + "        }\n"
+        + "      });\n"
+        + "    }\n"
+        + "    target.views = Utils.listOfRequired(\n"
+        + "        Utils.findRequiredView(source, 2, \"field 'views'\"),\n"
+        + "        Utils.findRequiredView(source, 3, \"field 'views'\"));\n"
+        + "    Context context = source.getContext();\n"
+        + "    Resources res = context.getResources();\n"
+        + "    target.four = res.getString(4);\n"
+        + "  }\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  protected Test_ViewBinding(View source) {\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"field 'one' and method 'click'\");\n"
+        + "    pendingOne = Utils.castView(view, 1, \"field 'one'\", TextView.class);\n"
+        + "    view1 = view;\n"
+        + "    view = source.findViewById(5);\n"
+        + "    view5 = view;\n"
+        + "    pendingViews = Utils.listOfRequired(\n"
+        + "        Utils.findRequiredView(source, 2, \"field 'views'\"),\n"
+        + "        Utils.findRequiredView(source, 3, \"field 'views'\"));\n"
+        + "    Context context = source.getContext();\n"
+        + "    Resources res = context.getResources();\n"
+        + "    pendingFour = res.getString(4);\n"
+        + "  }\n"
+        + "  @UiThread\n"
+        + "  protected void publish(final Test target) {\n"
+        + "    this.target = target;\n"
+        + "    target.one = pendingOne;\n"
+        + "    pendingOne = null;\n"
+        + "    target.views = pendingViews;\n"
+        + "    pendingViews = null;\n"
+        + "    target.four = pendingFour;\n"
+        + "    pendingFour = null;\n"
+        + "    view1.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.click();\n"
+        + "      }\n"
+        + "    });\n"
+        + "    if (view5 != null) {\n"
+        + "      view5.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "        @Override\n"
+        + "        public void doClick(View p0) {\n"
+        + "          target.optionalClick();\n"
+        + "        }\n"
+        + "      });\n"
+        + "    }\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.one = null;\n"
+        + "    target.views = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "    if (view5 != null) {\n"
+        + "      view5.setOnClickListener(null);\n"
+        + "      view5 = null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.asyncBind=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void childBindingPreparesParent() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindInt;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindInt(1) int one;\n"
+        + "  public static class Child extends Test {\n"
+        + "    @BindView(2) View two;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test$Child_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.support.annotation.UiThread;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.AsyncBindingFactory;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test$Child_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory<Test.Child> FACTORY = new AsyncBindingFactory<Test.Child>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test.Child target, View source) {\n"
+        + "      return new Test$Child_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "    @Override\n"
+        + "    public AsyncBindingFactory.PreparedBinding prepare(final Test.Child target, View source) {\n"
+        + "      final Test$Child_ViewBinding binding = new Test$Child_ViewBinding(source);\n"
+        + "      return new AsyncBindingFactory.PreparedBinding() {\n"
+        + "        @Override\n"
+        + "        public Unbinder publish() {\n"
+        + "          binding.publish(target);\n"
+        + "          return binding;\n"
+        + "        }\n"
+        + "      };\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test.Child target;\n"
+        + "  private View pendingTwo;\n"
+        + "  @UiThread\n"
+        + "  public Test$Child_ViewBinding(Test.Child target, View source) {\n"
+        + "    super(target, source.getContext());\n"
+        + "    this.target = target;\n"
+        + "    target.two = Utils.findRequiredView(source, 2, \"field 'two'\");\n"
+        + "  }\n"
+        + "  protected Test$Child_ViewBinding(View source) {\n"
+        + "    super(source);\n"
+        + "    pendingTwo = Utils.findRequiredView(source, 2, \"field 'two'\");\n"
+        + "  }\n"
+        + "  @UiThread\n"
+        + "  protected void publish(Test.Child target) {\n"
+        + "    super.publish(target);\n"
+        + "    this.target = target;\n"
+        + "    target.two = pendingTwo;\n"
+        + "    pendingTwo = null;\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public void unbind() {\n"
+        + "    Test.Child target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.two = null;\n"
+        + "    super.unbind();\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.asyncBind=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+}
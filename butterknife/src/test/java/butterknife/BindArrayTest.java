@@ -24,24 +24,21 @@ public class BindArrayTest {
         + "package test;\n"
         + "import android.content.Context;\n"
         + "import android.content.res.Resources;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(Test target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    Resources res = context.getResources();\n"
@@ -78,24 +75,21 @@ public class BindArrayTest {
         + "package test;\n"
         + "import android.content.Context;\n"
         + "import android.content.res.Resources;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(Test target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    Resources res = context.getResources();\n"
@@ -131,24 +125,21 @@ public class BindArrayTest {
         + "package test;\n"
         + "import android.content.Context;\n"
         + "import android.content.res.Resources;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(Test target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    Resources res = context.getResources();\n"
@@ -185,24 +176,21 @@ public class BindArrayTest {
         + "package test;\n"
         + "import android.content.Context;\n"
         + "import android.content.res.Resources;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(Test target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    Resources res = context.getResources();\n"
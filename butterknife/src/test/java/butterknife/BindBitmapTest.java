@@ -26,24 +26,21 @@ public class BindBitmapTest {
         + "import android.content.Context;\n"
         + "import android.content.res.Resources;\n"
         + "import android.graphics.BitmapFactory;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(Test target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    Resources res = context.getResources();\n"
@@ -64,6 +61,117 @@ public class BindBitmapTest {
         .generatesSources(bindingSource);
   }
 
+  @Test public void sized() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.graphics.Bitmap;\n"
+        + "import butterknife.BindBitmap;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindBitmap(value = 1, width = 2) Bitmap one;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.support.annotation.AnyThread;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.Bitmaps;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    target.one = Bitmaps.decode(context, 1, 2, 0);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void async() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.graphics.Bitmap;\n"
+        + "import butterknife.BindBitmap;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindBitmap(value = 1, height = 2, async = true) Bitmap one;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.graphics.Bitmap;\n"
+        + "import android.support.annotation.AnyThread;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.Bitmaps;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Bitmaps.Request oneRequest;\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(final Test target, Context context) {\n"
+        + "    oneRequest = Bitmaps.decodeAsync(context, 1, 0, 2, new Bitmaps.Callback() {\n"
+        + "      @Override\n"
+        + "      public void onBitmapDecoded(Bitmap bitmap) {\n"
+        + "        target.one = bitmap;\n"
+        + "      }\n"
+        + "    });\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (oneRequest != null) {\n"
+        + "      oneRequest.cancel();\n"
+        + "      oneRequest = null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
   @Test public void typeMustBeBitmap() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
@@ -23,25 +23,22 @@ public class BindColorTest {
         + "// Generated code from Butter Knife. Do not modify!\n"
         + "package test;\n"
         + "import android.content.Context;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(Test target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    target.one = ContextCompat.getColor(context, 1);\n"
@@ -75,24 +72,21 @@ public class BindColorTest {
         + "// Generated code from Butter Knife. Do not modify!\n"
         + "package test;\n"
         + "import android.content.Context;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(Test target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    target.one = context.getColor(1);\n"
@@ -127,25 +121,22 @@ public class BindColorTest {
         + "// Generated code from Butter Knife. Do not modify!\n"
         + "package test;\n"
         + "import android.content.Context;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(Test target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    target.one = ContextCompat.getColorStateList(context, 1);\n"
@@ -180,24 +171,21 @@ public class BindColorTest {
         + "// Generated code from Butter Knife. Do not modify!\n"
         + "package test;\n"
         + "import android.content.Context;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(Test target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    target.one = context.getColorStateList(1);\n"
@@ -29,11 +29,18 @@ public class BindViewTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -110,11 +117,18 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public final class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -163,11 +177,18 @@ public class BindViewTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Base_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Base> FACTORY = new BindingFactory<Base>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Base target, View source) {\n"
+        + "      return new Base_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Base target;\n"
         + "  @UiThread\n"
         + "  public Base_ViewBinding(Base target, View source) {\n"
@@ -189,10 +210,18 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public final class Test_ViewBinding extends Base_ViewBinding {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -237,11 +266,18 @@ public class BindViewTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Outer$Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Outer.Test> FACTORY = new BindingFactory<Outer.Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Outer.Test target, View source) {\n"
+        + "      return new Outer$Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Outer.Test target;\n"
         + "  @UiThread\n"
         + "  public Outer$Test_ViewBinding(Outer.Test target, View source) {\n"
@@ -283,11 +319,18 @@ public class BindViewTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -330,11 +373,18 @@ public class BindViewTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -378,11 +428,18 @@ public class BindViewTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
         + "import android.widget.TextView;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -428,12 +485,19 @@ public class BindViewTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -490,12 +554,19 @@ public class BindViewTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
         + "import android.widget.Button;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -569,10 +640,17 @@ public class BindViewTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -629,11 +707,18 @@ public class BindViewTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -655,10 +740,18 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class TestOne_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory<TestOne> FACTORY = new BindingFactory<TestOne>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(TestOne target, View source) {\n"
+        + "      return new TestOne_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private TestOne target;\n"
         + "  @UiThread\n"
         + "  public TestOne_ViewBinding(TestOne target, View source) {\n"
@@ -716,11 +809,18 @@ public class BindViewTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -742,10 +842,18 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class TestOne_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory<TestOne> FACTORY = new BindingFactory<TestOne>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(TestOne target, View source) {\n"
+        + "      return new TestOne_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private TestOne target;\n"
         + "  @UiThread\n"
         + "  public TestOne_ViewBinding(TestOne target, View source) {\n"
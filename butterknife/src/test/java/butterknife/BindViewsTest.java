@@ -49,19 +49,26 @@ public class BindViewsTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this.target = target;\n"
-        + "    target.thing = Utils.arrayOf(\n"
+        + "    target.thing = new View[] {\n"
         + "        Utils.findRequiredView(source, 1, \"field 'thing'\"), \n"
         + "        Utils.findRequiredView(source, 2, \"field 'thing'\"), \n"
-        + "        Utils.findRequiredView(source, 3, \"field 'thing'\"));\n"
+        + "        Utils.findRequiredView(source, 3, \"field 'thing'\") };\n"
         + "  }\n"
         + "  @Override\n"
         + "  @CallSuper\n"
@@ -98,19 +105,26 @@ public class BindViewsTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this.target = target;\n"
-        + "    target.thing = Utils.arrayOf(\n"
+        + "    target.thing = new View[] {\n"
         + "        Utils.findRequiredView(source, 1, \"field 'thing'\"), \n"
         + "        Utils.findRequiredView(source, 2, \"field 'thing'\"), \n"
-        + "        Utils.findRequiredView(source, 3, \"field 'thing'\"));\n"
+        + "        Utils.findRequiredView(source, 3, \"field 'thing'\") };\n"
         + "  }\n"
         + "  @Override\n"
         + "  @CallSuper\n"
@@ -150,19 +164,26 @@ public class BindViewsTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
         + "import android.widget.TextView;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this.target = target;\n"
-        + "    target.thing = Utils.arrayOf(\n"
+        + "    target.thing = new TextView[] {\n"
         + "        Utils.findRequiredViewAsType(source, 1, \"field 'thing'\", TextView.class), \n"
         + "        Utils.findRequiredViewAsType(source, 2, \"field 'thing'\", TextView.class), \n"
-        + "        Utils.findRequiredViewAsType(source, 3, \"field 'thing'\", TextView.class));\n"
+        + "        Utils.findRequiredViewAsType(source, 3, \"field 'thing'\", TextView.class) };\n"
         + "  }\n"
         + "  @Override\n"
         + "  @CallSuper\n"
@@ -200,16 +221,23 @@ public class BindViewsTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this.target = target;\n"
-        + "    target.thing = Utils.listOf(\n"
+        + "    target.thing = Utils.listOfRequired(\n"
         + "        Utils.findRequiredView(source, 1, \"field 'thing'\"), \n"
         + "        Utils.findRequiredView(source, 2, \"field 'thing'\"), \n"
         + "        Utils.findRequiredView(source, 3, \"field 'thing'\"));\n"
@@ -288,16 +316,23 @@ public class BindViewsTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this.target = target;\n"
-        + "    target.thing = Utils.listOf(\n"
+        + "    target.thing = Utils.listOfRequired(\n"
         + "        Utils.findRequiredViewAsType(source, 1, \"field 'thing'\", Test.TestInterface.class), \n"
         + "        Utils.findRequiredViewAsType(source, 2, \"field 'thing'\", Test.TestInterface.class), \n"
         + "        Utils.findRequiredViewAsType(source, 3, \"field 'thing'\", Test.TestInterface.class));\n"
@@ -338,16 +373,23 @@ public class BindViewsTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this.target = target;\n"
-        + "    target.thing = Utils.listOf(\n"
+        + "    target.thing = Utils.listOfRequired(\n"
         + "        Utils.findRequiredView(source, 1, \"field 'thing'\"), \n"
         + "        Utils.findRequiredView(source, 2, \"field 'thing'\"), \n"
         + "        Utils.findRequiredView(source, 3, \"field 'thing'\"));\n"
@@ -373,6 +415,65 @@ public class BindViewsTest {
         .generatesSources(bindingSource);
   }
 
+  @Test public void bindingViewsById() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindViews;\n"
+        + "import butterknife.ViewsById;\n"
+        + "public class Test extends Activity {\n"
+        + "    @BindViews({1, 2}) ViewsById<TextView> thing;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import android.support.annotation.UiThread;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.ViewsById;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private static final int[] THING_VIEW_IDS = { 1, 2 };\n"
+        + "  private Test target;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    target.thing = ViewsById.of(THING_VIEW_IDS,\n"
+        + "        Utils.findRequiredViewAsType(source, 1, \"field 'thing'\", TextView.class),\n"
+        + "        Utils.findRequiredViewAsType(source, 2, \"field 'thing'\", TextView.class));\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.thing = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
   @Test public void nullableList() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
@@ -391,11 +492,18 @@ public class BindViewsTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -473,7 +581,7 @@ public class BindViewsTest {
     assertAbout(javaSource()).that(source)
         .processedWith(new ButterKnifeProcessor())
         .failsToCompile()
-        .withErrorContaining("@BindViews must be a List or array. (test.Test.thing)")
+        .withErrorContaining("@BindViews must be a List, array, or ViewsById. (test.Test.thing)")
         .in(source).onLine(6);
   }
 
@@ -0,0 +1,166 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+
+public class BindingIndexTest {
+  @Test public void indexContainsEveryBinding() {
+    JavaFileObject source1 = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindView(1) View thing;\n"
+        + "  static class Holder {\n"
+        + "    @BindView(1) View thing;\n"
+        + "  }\n"
+        + "}"
+    );
+    JavaFileObject source2 = JavaFileObjects.forSourceString("other.Other", ""
+        + "package other;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "class Other {\n"
+        + "  @BindView(1) View thing;\n"
+        + "}"
+    );
+
+    JavaFileObject indexSource = JavaFileObjects.forSourceString("test/TestIndex", ""
+        + "package test;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.BindingIndex;\n"
+        + "import butterknife.BindingManifest;\n"
+        + "import java.lang.Class;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.String;\n"
+        + "import other.Other_ViewBinding;\n"
+        + "public final class TestIndex implements BindingIndex, BindingManifest {\n"
+        + "  @Override\n"
+        + "  public BindingFactory<?> getBindingFactory(Class<?> target) {\n"
+        + "    switch (target.getName()) {\n"
+        + "      case \"test.Test$Holder\": return Test$Holder_ViewBinding.FACTORY;\n"
+        + "      case \"test.Test\": return Test_ViewBinding.FACTORY;\n"
+        + "      case \"other.Other\": return Other_ViewBinding.FACTORY;\n"
+        + "      default: return null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public String[] getTargetClassNames() {\n"
+        + "    return new String[] {\n"
+        + "      \"test.Test$Holder\",\n"
+        + "      \"test.Test\",\n"
+        + "      \"other.Other\",\n"
+        + "    };\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSources()).that(ImmutableList.of(source1, source2))
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.index=test.TestIndex")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(indexSource);
+  }
+
+  @Test public void indexContainsBindingsFromLaterRounds() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "@PerformGeneration\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindView(1) View thing;\n"
+        + "}"
+    );
+
+    JavaFileObject indexSource = JavaFileObjects.forSourceString("test/TestIndex", ""
+        + "package test;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.BindingIndex;\n"
+        + "import butterknife.BindingManifest;\n"
+        + "import java.lang.Class;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.String;\n"
+        + "public final class TestIndex implements BindingIndex, BindingManifest {\n"
+        + "  @Override\n"
+        + "  public BindingFactory<?> getBindingFactory(Class<?> target) {\n"
+        + "    switch (target.getName()) {\n"
+        + "      case \"test.Test\": return Test_ViewBinding.FACTORY;\n"
+        + "      case \"test.Generated\": return Generated_ViewBinding.FACTORY;\n"
+        + "      default: return null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public String[] getTargetClassNames() {\n"
+        + "    return new String[] {\n"
+        + "      \"test.Test\",\n"
+        + "      \"test.Generated\",\n"
+        + "    };\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSources()).that(ImmutableList.of(source, TestGeneratingProcessor.ANNOTATION))
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.index=test.TestIndex")
+        .processedWith(new ButterKnifeProcessor(), new TestGeneratingProcessor("test.Generated",
+            "package test;",
+            "import android.view.View;",
+            "import butterknife.BindView;",
+            "public class Generated {",
+            "  @BindView(1) View thing;",
+            "}"
+        ))
+        .compilesWithoutError()
+        .and()
+        .generatesSources(indexSource);
+  }
+
+  @Test public void noIndexWithoutOption() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindView(1) View thing;\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesFileNamed(StandardLocation.CLASS_OUTPUT, "test", "Test_ViewBinding.class");
+  }
+
+  @Test public void failsWithInvalidIndexName() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindView(1) View thing;\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Abutterknife.index=test.1Index")
+        .processedWith(new ButterKnifeProcessor())
+        .failsToCompile()
+        .withErrorContaining("Supplied index option 'test.1Index' is not a valid fully-qualified"
+            + " class name.");
+  }
+}
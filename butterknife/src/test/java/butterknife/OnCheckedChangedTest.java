@@ -25,11 +25,18 @@ public class OnCheckedChangedTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
         + "import android.widget.CompoundButton;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -0,0 +1,198 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class RebindableTest {
+  @Test public void bindingsAreRebindable() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.OnClick;\n"
+        + "import butterknife.OnTextChanged;\n"
+        + "import butterknife.Optional;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindView(1) View one;\n"
+        + "  @OnClick(1) void click() {}\n"
+        + "  @Optional @OnTextChanged(2) void text() {}\n"
+        + "  public static class Child extends Test {\n"
+        + "    @BindView(3) View three;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import android.support.annotation.UiThread;\n"
+        + "import android.text.Editable;\n"
+        + "import android.text.TextWatcher;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Rebinder;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.CharSequence;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Rebinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private DebouncingOnClickListener view1DebouncingOnClickListener;\n"
+        + "  private View view2;\n"
+        + "  private TextWatcher view2TextWatcher;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    view1DebouncingOnClickListener = new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.click();\n"
+        + "      }\n"
+        + "    };\n"
+        + "    view2TextWatcher = new TextWatcher() {\n"
+        + "      @Override\n"
+        + "      public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "        target.text();\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void afterTextChanged(Editable p0) {\n"
+        + "      }\n"
+        + "    };\n"
+        + "    bindViews(target, source);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @UiThread\n"
+        + "  @CallSuper\n"
+        + "  public void rebind(View source) {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "    if (view2 != null) {\n"
+        + "      ((TextView) view2).removeTextChangedListener(view2TextWatcher);\n"
+        + "      view2 = null;\n"
+        + "    }\n"
+        + "    bindViews(target, source);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.one = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1DebouncingOnClickListener = null;\n"
+        + "    view1 = null;\n"
+        + "    if (view2 != null) {\n"
+        + "      ((TextView) view2).removeTextChangedListener(view2TextWatcher);\n"
+        + "      view2TextWatcher = null;\n"
+        + "      view2 = null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "  private void bindViews(Test target, View source) {\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"field 'one' and method 'click'\");\n"
+        + "    target.one = view;\n"
+        + "    view1 = view;\n"
+        + "    view.setOnClickListener(view1DebouncingOnClickListener);\n"
+        + "    view = source.findViewById(2);\n"
+        + "    if (view != null) {\n"
+        + "      view2 = view;\n"
+        + "      ((TextView) view).addTextChangedListener(view2TextWatcher);\n"
+        + "    }\n"
+        + "  }\n"
+        + "}"
+    );
+    JavaFileObject childSource = JavaFileObjects.forSourceString("test/Test$Child_ViewBinding", ""
+        + "package test;\n"
+        + "import android.support.annotation.UiThread;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test$Child_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory<Test.Child> FACTORY =\n"
+        + "      new BindingFactory<Test.Child>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test.Child target, View source) {\n"
+        + "      return new Test$Child_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test.Child target;\n"
+        + "  @UiThread\n"
+        + "  public Test$Child_ViewBinding(Test.Child target, View source) {\n"
+        + "    super(target, source);\n"
+        + "    this.target = target;\n"
+        + "    bindViews(target, source);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @UiThread\n"
+        + "  public void rebind(View source) {\n"
+        + "    Test.Child target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    bindViews(target, source);\n"
+        + "    super.rebind(source);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public void unbind() {\n"
+        + "    Test.Child target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.three = null;\n"
+        + "    super.unbind();\n"
+        + "  }\n"
+        + "  private void bindViews(Test.Child target, View source) {\n"
+        + "    target.three = Utils.findRequiredView(source, 3, \"field 'three'\");\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.rebindable=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource, childSource);
+  }
+
+  @Test public void sharedDispatcherIsKept() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import butterknife.OnClick;\n"
+        + "import butterknife.OnItemClick;\n"
+        + "public class Test extends Activity {\n"
+        + "  @OnClick({1, 2}) void click() {}\n"
+        + "  @OnItemClick({3, 4}) void itemClick(int position) {}\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.rebindable=true",
+            "-Abutterknife.sharedListeners=true", "-Abutterknife.singlePassLookup=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings();
+  }
+}
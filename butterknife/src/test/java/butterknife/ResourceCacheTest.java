@@ -0,0 +1,132 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class ResourceCacheTest {
+  @Test public void valuesReadThroughCache() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import butterknife.BindArray;\n"
+        + "import butterknife.BindBool;\n"
+        + "import butterknife.BindColor;\n"
+        + "import butterknife.BindDimen;\n"
+        + "import butterknife.BindFloat;\n"
+        + "import butterknife.BindInt;\n"
+        + "import butterknife.BindString;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindBool(1) boolean one;\n"
+        + "  @BindColor(2) int two;\n"
+        + "  @BindDimen(3) int three;\n"
+        + "  @BindDimen(4) float four;\n"
+        + "  @BindFloat(5) float five;\n"
+        + "  @BindInt(6) int six;\n"
+        + "  @BindString(7) String seven;\n"
+        + "  @BindArray(8) String[] eight;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.support.annotation.AnyThread;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.ResourceCache;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    Resources res = context.getResources();\n"
+        + "    target.eight = res.getStringArray(8);\n"
+        + "    target.one = ResourceCache.getBoolean(context, 1);\n"
+        + "    target.two = ResourceCache.getColor(context, 2);\n"
+        + "    target.three = ResourceCache.getDimensionPixelSize(context, 3);\n"
+        + "    target.four = ResourceCache.getDimension(context, 4);\n"
+        + "    target.five = ResourceCache.getFloat(context, 5);\n"
+        + "    target.six = ResourceCache.getInteger(context, 6);\n"
+        + "    target.seven = ResourceCache.getString(context, 7);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.cacheResources=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void sdk23ColorReadsThroughCache() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import butterknife.BindColor;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindColor(1) int one;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.support.annotation.AnyThread;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.ResourceCache;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new ResourceBindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, Context context) {\n"
+        + "      return new Test_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    target.one = ResourceCache.getColor(context, 1);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.cacheResources=true",
+            "-Abutterknife.minSdk=23")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+}
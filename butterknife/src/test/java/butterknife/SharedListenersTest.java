@@ -0,0 +1,242 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class SharedListenersTest {
+  @Test public void listenersBoundToSeveralViewsShareDispatcher() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.OnClick;\n"
+        + "import butterknife.OnLongClick;\n"
+        + "import butterknife.OnTextChanged;\n"
+        + "public class Test extends Activity {\n"
+        + "  @OnClick({1, 2}) void one() {}\n"
+        + "  @OnClick(3) void three(View view) {}\n"
+        + "  @OnLongClick({1, 2}) boolean longOne() { return true; }\n"
+        + "  @OnTextChanged({1, 2}) void text() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import android.support.annotation.UiThread;\n"
+        + "import android.text.Editable;\n"
+        + "import android.text.TextWatcher;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.CharSequence;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private TextWatcher view1TextWatcher;\n"
+        + "  private View view2;\n"
+        + "  private TextWatcher view2TextWatcher;\n"
+        + "  private View view3;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    DebouncingOnClickListener debouncingOnClickListener = "
+        + "new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        int id = p0.getId();\n"
+        + "        if (id == 1) {\n"
+        + "          target.one();\n"
+        + "        } else if (id == 2) {\n"
+        + "          target.one();\n"
+        + "        } else if (id == 3) {\n"
+        + "          target.three(p0);\n"
+        + "        }\n"
+        + "      }\n"
+        + "    };\n"
+        + "    View.OnLongClickListener onLongClickListener = new View.OnLongClickListener() {\n"
+        + "      @Override\n"
+        + "      public boolean onLongClick(View p0) {\n"
+        + "        int id = p0.getId();\n"
+        + "        if (id == 1) {\n"
+        + "          return target.longOne();\n"
+        + "        } else if (id == 2) {\n"
+        + "          return target.longOne();\n"
+        + "        }\n"
+        + "        return false;\n"
+        + "      }\n"
+        + "    };\n"
+        + "    view = Utils.findRequiredView(source, 1, "
+        + "\"method 'one', method 'longOne', and method 'text'\");\n"
+        + "    view1 = view;\n"
+        + "    view.setOnClickListener(debouncingOnClickListener);\n"
+        + "    view.setOnLongClickListener(onLongClickListener);\n"
+        + "    view1TextWatcher = new TextWatcher() {\n"
+        + "      @Override\n"
+        + "      public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "        target.text();\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void afterTextChanged(Editable p0) {\n"
+        + "      }\n"
+        + "    };\n"
+        + "    ((TextView) view).addTextChangedListener(view1TextWatcher);\n"
+        + "    view = Utils.findRequiredView(source, 2, "
+        + "\"method 'one', method 'longOne', and method 'text'\");\n"
+        + "    view2 = view;\n"
+        + "    view.setOnClickListener(debouncingOnClickListener);\n"
+        + "    view.setOnLongClickListener(onLongClickListener);\n"
+        + "    view2TextWatcher = new TextWatcher() {\n"
+        + "      @Override\n"
+        + "      public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "        target.text();\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
+        + "      }\n"
+        + "      @Override\n"
+        + "      public void afterTextChanged(Editable p0) {\n"
+        + "      }\n"
+        + "    };\n"
+        + "    ((TextView) view).addTextChangedListener(view2TextWatcher);\n"
+        + "    view = Utils.findRequiredView(source, 3, \"method 'three'\");\n"
+        + "    view3 = view;\n"
+        + "    view.setOnClickListener(debouncingOnClickListener);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1.setOnLongClickListener(null);\n"
+        + "    ((TextView) view1).removeTextChangedListener(view1TextWatcher);\n"
+        + "    view1TextWatcher = null;\n"
+        + "    view1 = null;\n"
+        + "    view2.setOnClickListener(null);\n"
+        + "    view2.setOnLongClickListener(null);\n"
+        + "    ((TextView) view2).removeTextChangedListener(view2TextWatcher);\n"
+        + "    view2TextWatcher = null;\n"
+        + "    view2 = null;\n"
+        + "    view3.setOnClickListener(null);\n"
+        + "    view3 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.sharedListeners=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void clicksWithOtherDebounceScopesKeepTheirOwnListener() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import butterknife.OnClick;\n"
+        + "public class Test extends Activity {\n"
+        + "  @OnClick({1, 2}) void one() {}\n"
+        + "  @OnClick(value = 3, debounce = OnClick.Debounce.BINDING) void three() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import android.support.annotation.UiThread;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private View view2;\n"
+        + "  private View view3;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    DebouncingOnClickListener.Scope clickScope = new DebouncingOnClickListener.Scope();\n"
+        + "    View view;\n"
+        + "    DebouncingOnClickListener debouncingOnClickListener = "
+        + "new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        int id = p0.getId();\n"
+        + "        if (id == 1) {\n"
+        + "          target.one();\n"
+        + "        } else if (id == 2) {\n"
+        + "          target.one();\n"
+        + "        }\n"
+        + "      }\n"
+        + "    };\n"
+        + "    view = Utils.findRequiredView(source, 1, \"method 'one'\");\n"
+        + "    view1 = view;\n"
+        + "    view.setOnClickListener(debouncingOnClickListener);\n"
+        + "    view = Utils.findRequiredView(source, 2, \"method 'one'\");\n"
+        + "    view2 = view;\n"
+        + "    view.setOnClickListener(debouncingOnClickListener);\n"
+        + "    view = Utils.findRequiredView(source, 3, \"method 'three'\");\n"
+        + "    view3 = view;\n"
+        + "    view.setOnClickListener(new DebouncingOnClickListener(clickScope) {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.three();\n"
+        + "      }\n"
+        + "    });\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "    view2.setOnClickListener(null);\n"
+        + "    view2 = null;\n"
+        + "    view3.setOnClickListener(null);\n"
+        + "    view3 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.sharedListeners=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+}
@@ -0,0 +1,130 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+
+public class TraceTest {
+  @Test public void phasesAreTraced() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.app.Activity;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindString;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.BindViews;\n"
+        + "import butterknife.OnClick;\n"
+        + "import butterknife.Optional;\n"
+        + "import java.util.List;\n"
+        + "public class Test extends Activity {\n"
+        + "  @BindView(1) TextView one;\n"
+        + "  @BindViews({2, 3}) List<View> views;\n"
+        + "  @BindString(4) String four;\n"
+        + "  @OnClick(1) void click() {}\n"
+        + "  @Optional @OnClick(5) void optionalClick() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.support.annotation.CallSuper;\n"
+        + "import android.support.annotation.UiThread;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  private View view5;\n"
+        + "  @UiThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    Utils.beginSection(\"BK:views:Test\");\n"
+        + "    try {\n"
+        + "      View view;\n"
+        + "      view = Utils.findRequiredView(source, 1, \"field 'one' and method 'click'\");\n"
+        + "      target.one = Utils.castView(view, 1, \"field 'one'\", TextView.class);\n"
+        + "      view1 = view;\n"
+        + "      view = source.findViewById(5);\n"
+        + "      view5 = view;\n"
+        + "      target.views = Utils.listOfRequired(\n"
+        + "          Utils.findRequiredView(source, 2, \"field 'views'\"),\n"
+        + "          Utils.findRequiredView(source, 3, \"field 'views'\"));\n"
+        + "    } finally {\n"
+        + "      Utils.endSection();\n"
+        + "    }\n"
+        + "    Utils.beginSection(\"BK:listeners:Test\");\n"
+        + "    try {\n"
+        + "      view1.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "        @Override\n"
+        + "        public void doClick(View p0) {\n"
+        + "          target.click();\n"
+        + "        }\n"
+        + "      });\n"
+        + "      if (view5 != null) {\n"
+        + "        view5.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "          @Override\n"
+        + "          public void doClick(View p0) {\n"
+        + "            target.optionalClick();\n"
+        + "          }\n"
+        + "        });\n"
+        + "      }\n"
+        + "    } finally {\n"
+        + "      Utils.endSection();\n"
+        + "    }\n"
+        + "    Utils.beginSection(\"BK:resources:Test\");\n"
+        + "    try {\n"
+        + "      Context context = source.getContext();\n"
+        + "      Resources res = context.getResources();\n"
+        + "      target.four = res.getString(4);\n"
+        + "    } finally {\n"
+        + "      Utils.endSection();\n"
+        + "    }\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.one = null;\n"
+        + "    target.views = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "    if (view5 != null) {\n"
+        + "      view5.setOnClickListener(null);\n"
+        + "      view5 = null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.trace=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+}
@@ -32,12 +32,19 @@ public class UnbinderTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -113,12 +120,19 @@ public class UnbinderTest {
         + "import android.support.annotation.CallSuper;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
         + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final BindingFactory<Test> FACTORY = new BindingFactory<Test>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(Test target, View source) {\n"
+        + "      return new Test_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -149,11 +163,19 @@ public class UnbinderTest {
         + "package test;\n"
         + "import android.support.annotation.UiThread;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class TestTwo_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final BindingFactory<TestTwo> FACTORY = new BindingFactory<TestTwo>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(TestTwo target, View source) {\n"
+        + "      return new TestTwo_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private TestTwo target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -314,24 +336,21 @@ public class UnbinderTest {
         + "// Generated code from Butter Knife. Do not modify!\n"
         + "package test;\n"
         + "import android.content.Context;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.annotation.CallSuper;\n"
-        + "import android.support.annotation.UiThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
-        + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
         + "import butterknife.Unbinder;\n"
-        + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "public class A_ViewBinding implements Unbinder {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(A, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(A target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<A> FACTORY = new ResourceBindingFactory<A>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(A target, Context context) {\n"
+        + "      return new A_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  public A_ViewBinding(A target, Context context) {\n"
         + "    target.blackColor = ContextCompat.getColor(context, android.R.color.black);\n"
         + "  }\n"
@@ -346,21 +365,20 @@ public class UnbinderTest {
         + "// Generated code from Butter Knife. Do not modify!\n"
         + "package test;\n"
         + "import android.content.Context;\n"
-        + "import android.support.annotation.UiThread;\n"
+        + "import android.support.annotation.AnyThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
-        + "import android.view.View;\n"
-        + "import java.lang.Deprecated;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.ResourceBindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import java.lang.Override;\n"
         + "public class B_ViewBinding extends A_ViewBinding {\n"
-        + "  /**\n"
-        + "   * @deprecated Use {@link #Test_ViewBinding(B, Context)} for direct creation.\n"
-        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
-        + "   */\n"
-        + "  @Deprecated\n"
-        + "  @UiThread\n"
-        + "  public Test_ViewBinding(B target, View source) {\n"
-        + "    this(target, source.getContext());\n"
-        + "  }\n"
-        + "  @UiThread\n"
+        + "  public static final BindingFactory<B> FACTORY = new ResourceBindingFactory<B>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(B target, Context context) {\n"
+        + "      return new B_ViewBinding(target, context);\n"
+        + "    }\n"
+        + "  };\n"
+        + "  @AnyThread\n"
         + "  public B_ViewBinding(B target, Context context) {\n"
         + "    super(target, context);\n"
         + "    target.whiteColor = ContextCompat.getColor(context, android.R.color.white);\n"
@@ -375,10 +393,18 @@ public class UnbinderTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class C_ViewBinding extends B_ViewBinding {\n"
+        + "  public static final BindingFactory<C> FACTORY = new BindingFactory<C>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(C target, View source) {\n"
+        + "      return new C_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private C target;\n"
         + "  @UiThread\n"
         + "  public C_ViewBinding(C target, View source) {\n"
@@ -405,7 +431,16 @@ public class UnbinderTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import java.lang.Override;\n"
         + "public class D_ViewBinding extends C_ViewBinding {\n"
+        + "  public static final BindingFactory<D> FACTORY = new BindingFactory<D>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(D target, View source) {\n"
+        + "      return new D_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  @UiThread\n"
         + "  public D_ViewBinding(D target, View source) {\n"
         + "    super(target, source);\n"
@@ -421,7 +456,16 @@ public class UnbinderTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import java.lang.Override;\n"
         + "public class E_ViewBinding extends C_ViewBinding {\n"
+        + "  public static final BindingFactory<E> FACTORY = new BindingFactory<E>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(E target, View source) {\n"
+        + "      return new E_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  @UiThread\n"
         + "  public E_ViewBinding(E target, View source) {\n"
         + "    super(target, source);\n"
@@ -437,7 +481,16 @@ public class UnbinderTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import java.lang.Override;\n"
         + "public class F_ViewBinding extends D_ViewBinding {\n"
+        + "  public static final BindingFactory<F> FACTORY = new BindingFactory<F>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(F target, View source) {\n"
+        + "      return new F_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  @UiThread\n"
         + "  public F_ViewBinding(F target, View source) {\n"
         + "    super(target, source);\n"
@@ -453,11 +506,19 @@ public class UnbinderTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class G_ViewBinding extends E_ViewBinding {\n"
+        + "  public static final BindingFactory<G> FACTORY = new BindingFactory<G>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(G target, View source) {\n"
+        + "      return new G_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private G target;\n"
         + "  private View view16908290;\n"
         + "  @UiThread\n"
@@ -496,10 +557,18 @@ public class UnbinderTest {
         + "import android.support.annotation.UiThread;\n"
         + "import android.support.v4.content.ContextCompat;\n"
         + "import android.view.View;\n"
+        + "import butterknife.BindingFactory;\n"
+        + "import butterknife.Unbinder;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class H_ViewBinding extends G_ViewBinding {\n"
+        + "  public static final BindingFactory<H> FACTORY = new BindingFactory<H>() {\n"
+        + "    @Override\n"
+        + "    public Unbinder create(H target, View source) {\n"
+        + "      return new H_ViewBinding(target, source);\n"
+        + "    }\n"
+        + "  };\n"
         + "  private H target;\n"
         + "  @UiThread\n"
         + "  public H_ViewBinding(H target, View source) {\n"